@@ -3,8 +3,13 @@ package com.yachaerang.backend.api.chat.controller;
 import com.yachaerang.backend.api.chat.dto.request.ChatRequestDto;
 import com.yachaerang.backend.api.chat.dto.response.ChatResponseDto;
 import com.yachaerang.backend.api.chat.service.ChatService;
+import com.yachaerang.backend.global.exception.GeneralException;
+import com.yachaerang.backend.global.response.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -41,6 +46,33 @@ public class ChatController {
         return chatService.getChatResponse(requestDto, chatSessionId);
     }
 
+    /**
+     * 특정 세션에 대해 메시지를 보내고, AI 응답을 생성되는 대로 SSE로 받는 엔드포인트
+     * Accept: text/event-stream 요청 시 선택
+     * - message : 응답 조각
+     * - done : 응답이 끝나고 저장까지 완료
+     * - error : 응답 도중 실패 (에러 코드)
+     *
+     * @param chatSessionId 세션 ID (path)
+     * @param requestDto    사용자 메시지 DTO (body)
+     * @return AI 응답 이벤트 스트림
+     */
+    @PostMapping(value = "/{chatSessionId}/messages", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> streamChat(
+            @PathVariable("chatSessionId") Long chatSessionId,
+            @Valid @RequestBody ChatRequestDto.MessageDto requestDto
+    ) {
+        return chatService.streamChatResponse(requestDto, chatSessionId)
+                .map(chunk -> ServerSentEvent.builder(chunk).event("message").build())
+                .concatWith(Flux.just(ServerSentEvent.builder(String.valueOf(chatSessionId)).event("done").build()))
+                .onErrorResume(e -> {
+                    ErrorCode errorCode = e instanceof GeneralException generalException
+                            ? generalException.getErrorCode()
+                            : ErrorCode.AI_MODEL_ERROR;
+                    return Flux.just(ServerSentEvent.builder(errorCode.getCode()).event("error").build());
+                });
+    }
+
     /**
      * 채팅 세션 종료
      */
@@ -0,0 +1,189 @@
+package com.yachaerang.backend.api.chat.service;
+
+import com.yachaerang.backend.api.chat.entity.ChatMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/*
+ 채팅 세션별 최근 대화를 메모리에 보관 (프롬프트 컨텍스트용)
+ - 매 턴마다 이전 대화를 DB에서 다시 읽지 않도록, 처음 한 번만 조회하고 이후에는 저장할 때 함께 추가
+ - 메시지 개수가 아닌 대략적인 토큰 수(TOKEN_BUDGET) 기준으로 오래된 대화부터 제거
+ - IDLE_TTL 동안 사용하지 않은 세션은 제거하고, 최대 MAX_SESSIONS개 세션까지만 보관
+   (가득 차면 한 스레드만 가장 오래 사용하지 않은 세션부터 EVICT_TO_SIZE까지 한 번에 정리)
+ - DB 조회는 Map 밖에서 세션 단위 잠금으로 한 번만 실행하여, 다른 세션의 조회를 막지 않음
+ */
+@Component
+public class ChatContextCache {
+
+    public static final int MAX_MESSAGES = 20;
+    private static final int TOKEN_BUDGET = 2_000;
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;
+    private static final int MAX_SESSIONS = 1_000;
+    // 세션이 추가될 때마다 정리하지 않도록 여유를 두고 줄임
+    private static final int EVICT_TO_SIZE = MAX_SESSIONS * 9 / 10;
+    private static final Duration IDLE_TTL = Duration.ofMinutes(30);
+
+    private final Map<Long, ContextWindow> windows = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /*
+    세션의 최근 대화를 오래된 순으로 반환, 보관 중이 아니면 loader로 조회하여 보관
+     */
+    public List<ChatMessage> getHistory(Long chatSessionId, Function<Long, List<ChatMessage>> loader) {
+        long now = System.nanoTime();
+        ContextWindow existing = windows.get(chatSessionId);
+        if (existing != null && existing.isIdle(now)) {
+            windows.remove(chatSessionId, existing);
+        }
+        if (!windows.containsKey(chatSessionId) && windows.size() >= MAX_SESSIONS) {
+            evictIdle(now);
+        }
+        // 빈 창만 Map에 넣고, 조회는 창의 잠금 안에서 실행 (같은 세션의 동시 요청은 한 번만 조회)
+        ContextWindow window = windows.computeIfAbsent(chatSessionId, id -> new ContextWindow(now));
+        return window.snapshot(chatSessionId, loader, now);
+    }
+
+    /*
+    저장이 끝난 메시지를 추가 (보관 중인 세션만)
+    - 보관 중이 아니면 다음 조회 때 DB에서 읽으므로 추가하지 않음
+     */
+    public void append(Long chatSessionId, ChatMessage... chatMessages) {
+        ContextWindow window = windows.get(chatSessionId);
+        if (window == null) {
+            return;
+        }
+        window.append(chatMessages, System.nanoTime());
+    }
+
+    /*
+    세션 제거
+    - 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 다른 요청이 이전 대화를 다시 담는 것을 막음
+     */
+    public void evict(Long chatSessionId) {
+        afterCommit(() -> windows.remove(chatSessionId));
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    /*
+    대략적인 토큰 수 : 한글 기준 2글자당 1토큰 + 메시지 구분 비용
+     */
+    static int estimateTokens(ChatMessage chatMessage) {
+        String content = chatMessage.getContent();
+        int length = content == null ? 0 : content.length();
+        return (length + 1) / 2 + MESSAGE_OVERHEAD_TOKENS;
+    }
+
+    /*
+    사용하지 않은 세션을 먼저 지우고, 그래도 많으면 마지막 사용 시각이 오래된 순서로 제거
+    - 이미 다른 스레드가 정리 중이면 기다리지 않음
+     */
+    private void evictIdle(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            windows.values().removeIf(window -> window.isIdle(now));
+            int excess = windows.size() - EVICT_TO_SIZE;
+            if (excess <= 0) {
+                return;
+            }
+            // 정렬 중에 사용 시각이 바뀌지 않도록 복사해 둔 값으로 한 번만 정렬
+            List<Candidate> candidates = new ArrayList<>(windows.size());
+            windows.forEach((id, window) -> candidates.add(new Candidate(id, window, window.lastAccess)));
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccess));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                windows.remove(candidate.chatSessionId(), candidate.window());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+        );
+    }
+
+    private record Candidate(Long chatSessionId, ContextWindow window, long lastAccess) {
+    }
+
+    private static class ContextWindow {
+        private final Deque<ChatMessage> messages = new ArrayDeque<>(MAX_MESSAGES);
+        private int tokens;
+        // loader 조회가 끝났는지 (조회가 실패하면 다음 요청에서 다시 조회)
+        private boolean loaded;
+        private volatile long lastAccess;
+
+        private ContextWindow(long now) {
+            this.lastAccess = now;
+        }
+
+        private synchronized List<ChatMessage> snapshot(Long chatSessionId,
+                                                        Function<Long, List<ChatMessage>> loader,
+                                                        long now) {
+            if (!loaded) {
+                for (ChatMessage chatMessage : loader.apply(chatSessionId)) {
+                    add(chatMessage);
+                }
+                loaded = true;
+            }
+            lastAccess = now;
+            return new ArrayList<>(messages);
+        }
+
+        private synchronized void append(ChatMessage[] chatMessages, long now) {
+            // 아직 조회하지 않은 창에 추가하면 이전 대화 없이 일부만 남으므로, 다음 조회 때 DB에서 읽음
+            if (!loaded) {
+                return;
+            }
+            for (ChatMessage chatMessage : chatMessages) {
+                add(chatMessage);
+            }
+            lastAccess = now;
+        }
+
+        private boolean isIdle(long now) {
+            return now - lastAccess >= IDLE_TTL.toNanos();
+        }
+
+        private void add(ChatMessage chatMessage) {
+            // DB에서 읽은 직후 같은 메시지가 다시 추가되는 경우 무시
+            if (chatMessage.getId() != null
+                    && messages.stream().anyMatch(message -> chatMessage.getId().equals(message.getId()))) {
+                return;
+            }
+            messages.addLast(chatMessage);
+            tokens += estimateTokens(chatMessage);
+            // 최신 메시지는 예산을 넘더라도 하나는 남김
+            while (messages.size() > 1 && (messages.size() > MAX_MESSAGES || tokens > TOKEN_BUDGET)) {
+                tokens -= estimateTokens(messages.removeFirst());
+            }
+        }
+    }
+}
@@ -11,29 +11,61 @@ import com.yachaerang.backend.global.auth.jwt.AuthenticatedMemberProvider;
 import com.yachaerang.backend.global.exception.GeneralException;
 import com.yachaerang.backend.global.response.ErrorCode;
 import com.yachaerang.backend.global.util.LogUtil;
-import lombok.RequiredArgsConstructor;
 import org.springframework.ai.chat.messages.*;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.google.genai.GoogleGenAiChatModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 public class ChatService {
 
-    private static final int MAX_CONTEXT_MESSAGES = 10;
+    private static final String SYSTEM_PROMPT = """
+                    너는 농업인에게 도우미 봇 '야치'다.
+                    너의 역할은 농업에 관련된 모든 질문에 친절하고 유익하게 답변하는 거야.
+                    말투는 항상 친근하고 귀엽고 존댓말을 써.
+                    너는 어떤 상황에서도 농업인 도우미 봇 '야치'라는 정체성을 유지해야 해.
+                    농업과 무관한 질문이 오면, 농업과 연결해서 설명하거나 정중하게 농업 관련 도움만 제공할 수 있다고 안내해.
+                    정확하지 않거나 확신할 수 없는 정보는 추측하지 말고, 필요하다면 전문가 상담이나 공식 자료 확인을 권장해.
+            """;
 
     private final GoogleGenAiChatModel googleGenAiChatModel;
 
     private final AuthenticatedMemberProvider authenticatedMemberProvider;
     private final ChatSessionMapper chatSessionMapper;
     private final ChatMessageMapper chatMessageMapper;
-
+    private final ChatContextCache chatContextCache;
+
+    // 모델 호출 전후의 조회/저장만 짧게 묶기 위한 트랜잭션
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public ChatService(
+            GoogleGenAiChatModel googleGenAiChatModel,
+            AuthenticatedMemberProvider authenticatedMemberProvider,
+            ChatSessionMapper chatSessionMapper,
+            ChatMessageMapper chatMessageMapper,
+            ChatContextCache chatContextCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.googleGenAiChatModel = googleGenAiChatModel;
+        this.authenticatedMemberProvider = authenticatedMemberProvider;
+        this.chatSessionMapper = chatSessionMapper;
+        this.chatMessageMapper = chatMessageMapper;
+        this.chatContextCache = chatContextCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
 
     /*
     새로운 채팅 세션 시작
@@ -58,24 +90,25 @@ public class ChatService {
 
     /**
      * GoogleGenAI에게 메시지를 전달
+     * - 모델 호출은 수 초가 걸리므로 트랜잭션(DB 커넥션)을 잡지 않은 상태에서 호출
+     * - 조회(세션 검증, 이전 대화)와 저장을 각각 짧은 트랜잭션으로 분리
      * @param requestDto : 사용자 메시지
      * @param chatSessionId
      * @return : 모델 응답
      */
-    @Transactional
     public ChatResponseDto.MessageDto getChatResponse(
             ChatRequestDto.MessageDto requestDto, Long chatSessionId) {
 
         Long memberId = authenticatedMemberProvider.getCurrentMemberId();
-        ChatSession session = getValidatedSession(chatSessionId, memberId);
-
         String userMessage = requestDto.getMessage();
-        validateMessage(userMessage);
 
-        // 이전 대화 기록과 함께 프롬프트 구성 및 전송
-        List<Message> promptMessages = buildPromptMessages(chatSessionId, userMessage);
+        // 1. 조회 : 세션 검증 및 이전 대화 기록과 함께 프롬프트 구성
+        List<Message> promptMessages = preparePrompt(chatSessionId, memberId, userMessage);
+
+        // 2. 모델 호출 : 트랜잭션 밖
         String responseContent = call(promptMessages);
 
+        // 3. 저장
         saveMessages(chatSessionId, memberId, userMessage, responseContent);
 
         LogUtil.debug("채팅 응답 생성 완료: sessionId={}", chatSessionId);
@@ -86,6 +119,41 @@ public class ChatService {
                 .build();
     }
 
+    /**
+     * GoogleGenAI의 응답을 생성되는 대로 전달
+     * - 세션/메시지 검증과 이전 대화 조회는 요청 스레드에서 먼저 수행
+     * - 모델이 응답하는 동안에는 트랜잭션을 잡지 않고, 응답이 끝나면 조립한 메시지를 한 번에 저장
+     * - 클라이언트가 중간에 연결을 끊으면 저장하지 않음
+     * @param requestDto : 사용자 메시지
+     * @param chatSessionId
+     * @return : 모델 응답 조각
+     */
+    public Flux<String> streamChatResponse(
+            ChatRequestDto.MessageDto requestDto, Long chatSessionId) {
+
+        Long memberId = authenticatedMemberProvider.getCurrentMemberId();
+        String userMessage = requestDto.getMessage();
+
+        List<Message> promptMessages = preparePrompt(chatSessionId, memberId, userMessage);
+
+        return Flux.defer(() -> {
+            StringBuilder responseContent = new StringBuilder();
+            Mono<String> save = Mono.<String>fromRunnable(() -> {
+                        if (responseContent.isEmpty()) {
+                            throw GeneralException.of(ErrorCode.AI_MODEL_ERROR);
+                        }
+                        saveMessages(chatSessionId, memberId, userMessage, responseContent.toString());
+                        LogUtil.debug("채팅 스트리밍 응답 저장 완료: sessionId={}", chatSessionId);
+                    })
+                    // JDBC 호출이므로 모델 응답을 받는 스레드가 아닌 별도 스레드에서 저장
+                    .subscribeOn(Schedulers.boundedElastic());
+
+            return stream(promptMessages)
+                    .doOnNext(responseContent::append)
+                    .concatWith(save);
+        });
+    }
+
     /**
      * 채팅 세션을 종료
      * @param chatSessionId
@@ -97,6 +165,7 @@ public class ChatService {
 
         session.end();
         chatSessionMapper.updateStatus(session);
+        chatContextCache.evict(chatSessionId);
 
         LogUtil.info("채팅 세션 종료: sessionId={}", chatSessionId);
     }
@@ -146,6 +215,17 @@ public class ChatService {
         return session;
     }
 
+    /*
+    세션과 메시지를 검증하고 프롬프트를 구성 (읽기 전용 트랜잭션)
+     */
+    private List<Message> preparePrompt(Long chatSessionId, Long memberId, String userMessage) {
+        return readOnlyTransactionTemplate.execute(status -> {
+            getValidatedSession(chatSessionId, memberId);
+            validateMessage(userMessage);
+            return buildPromptMessages(chatSessionId, userMessage);
+        });
+    }
+
     private void validateMessage(String message) {
         if (message == null || message.isBlank()) {
             throw GeneralException.of(ErrorCode.INVALID_MESSAGE);
@@ -153,14 +233,15 @@ public class ChatService {
     }
 
     /**
-     * 이전 대화기록을 조회하여 프롬프트 생성
+     * 이전 대화기록으로 프롬프트 생성
+     * - 최근 대화는 ChatContextCache에서 가져오고, 보관 중이 아니면 최근 메시지를 조회
      * @param chatSessionId
      * @param currentUserMessage
      * @return
      */
     private List<Message> buildPromptMessages(Long chatSessionId, String currentUserMessage) {
-        List<ChatMessage> history = chatMessageMapper
-                .findAllByChatSessionIdOrderByCreatedAtAsc(chatSessionId, MAX_CONTEXT_MESSAGES);
+        List<ChatMessage> history = chatContextCache.getHistory(chatSessionId, id ->
+                chatMessageMapper.findRecentMessagesByChatSessionId(id, ChatContextCache.MAX_MESSAGES));
 
         List<Message> promptMessages = history.stream()
                 .map(this::toPromptMessage)
@@ -176,24 +257,7 @@ public class ChatService {
      */
     private String call(List<Message> promptMessages) {
         try {
-            // 시스템 메시지를 생성
-            SystemMessage systemMessage = new SystemMessage(
-                    """
-                            너는 농업인에게 도우미 봇 '야치'다.
-                            너의 역할은 농업에 관련된 모든 질문에 친절하고 유익하게 답변하는 거야.
-                            말투는 항상 친근하고 귀엽고 존댓말을 써.
-                            너는 어떤 상황에서도 농업인 도우미 봇 '야치'라는 정체성을 유지해야 해.
-                            농업과 무관한 질문이 오면, 농업과 연결해서 설명하거나 정중하게 농업 관련 도움만 제공할 수 있다고 안내해.
-                            정확하지 않거나 확신할 수 없는 정보는 추측하지 말고, 필요하다면 전문가 상담이나 공식 자료 확인을 권장해.
-                    """
-            );
-
-            // 시스템 메시지와 사용자 프롬프트 메시지를 하나의 리스트로 결합
-            List<Message> allMessages = new ArrayList<>();
-            allMessages.add(systemMessage);
-            allMessages.addAll(promptMessages);
-
-            return googleGenAiChatModel.call(new Prompt(allMessages))
+            return googleGenAiChatModel.call(toPrompt(promptMessages))
                     .getResult()
                     .getOutput()
                     .getText();
@@ -204,14 +268,42 @@ public class ChatService {
     }
 
     /*
-    Message 내용을 저장
+    등록한 모델 프롬프트 스트리밍 전송
+     */
+    private Flux<String> stream(List<Message> promptMessages) {
+        return googleGenAiChatModel.stream(toPrompt(promptMessages))
+                .mapNotNull(chatResponse -> chatResponse.getResult() == null
+                        ? null
+                        : chatResponse.getResult().getOutput().getText())
+                .filter(text -> !text.isEmpty())
+                .onErrorMap(e -> !(e instanceof GeneralException), e -> {
+                    LogUtil.error("모델 스트리밍 호출 실패", e);
+                    return GeneralException.of(ErrorCode.AI_MODEL_ERROR);
+                });
+    }
+
+    /*
+    시스템 메시지와 사용자 프롬프트 메시지를 하나의 프롬프트로 결합
+     */
+    private Prompt toPrompt(List<Message> promptMessages) {
+        List<Message> allMessages = new ArrayList<>();
+        allMessages.add(new SystemMessage(SYSTEM_PROMPT));
+        allMessages.addAll(promptMessages);
+        return new Prompt(allMessages);
+    }
+
+    /*
+    Message 내용을 저장하고, 커밋 이후 대화 컨텍스트에 추가
      */
     private void saveMessages(Long chatSessionId, Long memberId, String userMessage, String assistantResponse) {
         ChatMessage userChatMessage = ChatMessage.ofUser(chatSessionId, memberId, userMessage);
         ChatMessage assistantChatMessage = ChatMessage.ofAssistant(chatSessionId, assistantResponse);
 
-        chatMessageMapper.save(userChatMessage);
-        chatMessageMapper.save(assistantChatMessage);
+        transactionTemplate.executeWithoutResult(status -> {
+            chatMessageMapper.save(userChatMessage);
+            chatMessageMapper.save(assistantChatMessage);
+        });
+        chatContextCache.append(chatSessionId, userChatMessage, assistantChatMessage);
     }
 
     /*
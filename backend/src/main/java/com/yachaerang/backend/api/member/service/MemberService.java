@@ -5,6 +5,7 @@ import com.yachaerang.backend.api.member.dto.response.MemberResponseDto;
 import com.yachaerang.backend.api.member.entity.Member;
 import com.yachaerang.backend.api.member.repository.MemberMapper;
 import com.yachaerang.backend.global.auth.jwt.AuthenticatedMemberProvider;
+import com.yachaerang.backend.global.auth.jwt.MemberPrincipalCache;
 import com.yachaerang.backend.global.exception.GeneralException;
 import com.yachaerang.backend.global.response.ErrorCode;
 import com.yachaerang.backend.global.util.LogUtil;
@@ -29,6 +30,7 @@ public class MemberService {
     private final AuthenticatedMemberProvider authenticatedMemberProvider;
     private final S3FileService s3FileService;
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     /*
     나의 정보 조회하기
@@ -71,6 +73,8 @@ public class MemberService {
         if (result == 0) {
             throw GeneralException.of(ErrorCode.INTERNAL_SERVER_ERROR);
         }
+        // 인증 시 재사용하는 Member 정보 제거
+        memberPrincipalCache.evictByMemberId(memberId);
 
         // return확인
         Member member = memberMapper.findById(memberId);
@@ -116,6 +120,7 @@ public class MemberService {
         if (result != 1) {
             throw GeneralException.of(ErrorCode.MEMBER_PROFILE_IMAGE);
         } else {
+            memberPrincipalCache.evictByMemberId(memberId);
             // S3 이전 이미지 삭제
             if (oldImageUrl != null && !oldImageUrl.isBlank()) {
                 TransactionSynchronizationManager.registerSynchronization(
@@ -152,6 +157,8 @@ public class MemberService {
             LogUtil.error("{} 회원의 비밀번호를 변경하는 데에 실패하였습니다.", member.getEmail());
             throw GeneralException.of(ErrorCode.MEMBER_PASSWORD_FAILED);
         }
+        // 이전 비밀번호를 가진 Member가 인증에 재사용되지 않도록 제거
+        memberPrincipalCache.evict(member.getMemberCode());
         LogUtil.info("{} 회원의 비밀번호 변경 성공", member.getEmail());
     }
 }
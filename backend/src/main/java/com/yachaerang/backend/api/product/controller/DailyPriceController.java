@@ -13,33 +13,68 @@ import java.util.List;
 @RequiredArgsConstructor
 public class DailyPriceController {
 
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.yachaerang.columnar+json";
+
     private final DailyPriceService dailyPriceService;
     /*
     특정 날짜의 기한을 정하여 조회 - 일별
+    maxPoints가 있으면 차트에 필요한 만큼만 줄여서 반환
      */
     @GetMapping("/{productCode}")
     public List<DailyPriceResponseDto.PriceRecordDto> getDailyPrice(
             @PathVariable(name = "productCode") String productCode,
             @RequestParam(name = "startDate") LocalDate startDate,
-            @RequestParam(name = "endDate")LocalDate endDate
+            @RequestParam(name = "endDate")LocalDate endDate,
+            @RequestParam(name = "maxPoints", required = false) Integer maxPoints
     ) {
-        return dailyPriceService.getDailyPrice(productCode, startDate, endDate);
+        if (maxPoints == null) {
+            return dailyPriceService.getDailyPrice(productCode, startDate, endDate);
+        }
+        return dailyPriceService.getDailyPrice(productCode, startDate, endDate, maxPoints);
+    }
+
+    /*
+    특정 날짜의 기한을 정하여 조회 - 일별, 열 단위 배열 형식
+    Accept: application/vnd.yachaerang.columnar+json 또는 format=columnar 로 선택
+     */
+    @GetMapping(value = "/{productCode}", produces = COLUMNAR_JSON_VALUE)
+    public DailyPriceResponseDto.ColumnarDto getDailyPriceColumns(
+            @PathVariable(name = "productCode") String productCode,
+            @RequestParam(name = "startDate") LocalDate startDate,
+            @RequestParam(name = "endDate") LocalDate endDate
+    ) {
+        return dailyPriceService.getDailyPriceColumns(productCode, startDate, endDate);
+    }
+
+    @GetMapping(value = "/{productCode}", params = "format=columnar")
+    public DailyPriceResponseDto.ColumnarDto getDailyPriceColumnsByFormat(
+            @PathVariable(name = "productCode") String productCode,
+            @RequestParam(name = "startDate") LocalDate startDate,
+            @RequestParam(name = "endDate") LocalDate endDate
+    ) {
+        return dailyPriceService.getDailyPriceColumns(productCode, startDate, endDate);
     }
 
     /*
     어제자 높은 가격 순위 보여주기
      */
     @GetMapping("/rank/high-prices")
-    public List<DailyPriceResponseDto.RankDto> getHighPriceRank() {
-        return dailyPriceService.getHighPriceRank();
+    public List<DailyPriceResponseDto.RankDto> getHighPriceRank(
+            @RequestParam(name = "categoryCode", required = false) String categoryCode,
+            @RequestParam(name = "limit", defaultValue = "9") int limit
+    ) {
+        return dailyPriceService.getHighPriceRank(categoryCode, limit);
     }
 
     /*
     어제자 낮은 가격 순위 보여주기
      */
     @GetMapping("/rank/low-prices")
-    public List<DailyPriceResponseDto.RankDto> getLowPriceRank() {
-        return dailyPriceService.getLowPriceRank();
+    public List<DailyPriceResponseDto.RankDto> getLowPriceRank(
+            @RequestParam(name = "categoryCode", required = false) String categoryCode,
+            @RequestParam(name = "limit", defaultValue = "9") int limit
+    ) {
+        return dailyPriceService.getLowPriceRank(categoryCode, limit);
     }
 
 }
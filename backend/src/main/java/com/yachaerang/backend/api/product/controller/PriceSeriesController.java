@@ -0,0 +1,31 @@
+package com.yachaerang.backend.api.product.controller;
+
+import com.yachaerang.backend.api.common.PeriodType;
+import com.yachaerang.backend.api.product.dto.response.PriceSeriesResponseDto;
+import com.yachaerang.backend.api.product.service.PriceSeriesService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequestMapping("/api/v1/price-series")
+@RestController
+@RequiredArgsConstructor
+public class PriceSeriesController {
+
+    private final PriceSeriesService priceSeriesService;
+
+    /*
+    여러 상품의 기간별 가격을 한 번에 조회 - 대시보드용
+     */
+    @GetMapping
+    public List<PriceSeriesResponseDto.SeriesDto> getPriceSeries(
+            @RequestParam(name = "productCodes") List<String> productCodes,
+            @RequestParam(name = "periodType") PeriodType periodType,
+            @RequestParam(name = "startDate") LocalDate startDate,
+            @RequestParam(name = "endDate") LocalDate endDate
+    ) {
+        return priceSeriesService.getPriceSeries(productCodes, periodType, startDate, endDate);
+    }
+}
@@ -34,4 +34,24 @@ public class DailyPriceResponseDto {
         private Long priceChange;
         private BigDecimal priceChangeRate;
     }
+
+    /*
+    차트용 열 단위 응답
+    - 같은 인덱스가 하나의 일자 데이터
+    - epochDays : 1970-01-01 기준 일수, changeBasisPoints : 전일 대비 변화율(%) x 100
+    - priceValid/changeValid : 값이 있으면 true, false인 위치의 prices/changeBasisPoints 값(0)은 사용하지 않음
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ColumnarDto {
+        private int size;
+        private long[] epochDays;
+        private long[] prices;
+        private int[] changeBasisPoints;
+        private boolean[] priceValid;
+        private boolean[] changeValid;
+    }
 }
@@ -0,0 +1,20 @@
+package com.yachaerang.backend.api.product.dto.response;
+
+import com.yachaerang.backend.api.common.PeriodType;
+import lombok.*;
+
+import java.util.List;
+
+public class PriceSeriesResponseDto {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SeriesDto {
+        private String productCode;
+        private PeriodType periodType;
+        private List<?> prices;
+    }
+}
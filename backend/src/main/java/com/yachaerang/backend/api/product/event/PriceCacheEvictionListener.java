@@ -0,0 +1,30 @@
+package com.yachaerang.backend.api.product.event;
+
+import com.yachaerang.backend.api.product.service.DailyPriceRankCache;
+import com.yachaerang.backend.global.util.LogUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/*
+가격 갱신 이벤트에 따라 영향받는 가격 캐시만 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceCacheEvictionListener {
+
+    private final DailyPriceRankCache dailyPriceRankCache;
+
+    @EventListener
+    public void onPriceUpdated(PriceUpdatedEvent event) {
+        LogUtil.debug("가격 갱신 이벤트 수신 : {} {} ~ {}",
+                event.getPeriodType(), event.getStartDate(), event.getEndDate());
+
+        switch (event.getPeriodType()) {
+            case DAILY -> dailyPriceRankCache.refreshIfAffected(event);
+            case WEEKLY, MONTHLY, YEARLY -> {
+                // 아직 주간/월간/연간 가격 캐시 없음
+            }
+        }
+    }
+}
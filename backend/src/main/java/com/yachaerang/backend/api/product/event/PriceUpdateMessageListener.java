@@ -0,0 +1,39 @@
+package com.yachaerang.backend.api.product.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yachaerang.backend.global.util.LogUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+Redis 채널로 들어온 가격 갱신 메시지를 애플리케이션 이벤트로 변환
+- 캐시 갱신은 PriceCacheEvictionListener에서 처리하므로 Redis 없이도 이벤트만 발행하면 동작
+ */
+@Component
+@RequiredArgsConstructor
+public class PriceUpdateMessageListener implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            PriceUpdatedEvent event = objectMapper.readValue(body, PriceUpdatedEvent.class);
+            if (event.getPeriodType() == null || event.getStartDate() == null || event.getEndDate() == null) {
+                LogUtil.warn("가격 갱신 메시지 필수값 누락 : {}", body);
+                return;
+            }
+            applicationEventPublisher.publishEvent(event);
+        } catch (JsonProcessingException e) {
+            LogUtil.warn("가격 갱신 메시지 파싱 실패 : {}", LogUtil.exception(e));
+        }
+    }
+}
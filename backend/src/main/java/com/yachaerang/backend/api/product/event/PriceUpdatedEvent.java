@@ -0,0 +1,36 @@
+package com.yachaerang.backend.api.product.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.yachaerang.backend.api.common.PeriodType;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+batch 모듈에서 가격 데이터 저장 후 발행하는 갱신 이벤트
+- startDate ~ endDate : 저장된 데이터가 속한 기간
+- productCodes : 저장된 상품 코드 목록 (비어있으면 기간 내 전체 상품)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PriceUpdatedEvent {
+
+    private PeriodType periodType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<String> productCodes;
+
+    /*
+    해당 날짜가 갱신 기간에 포함되는지 확인
+     */
+    public boolean covers(LocalDate date) {
+        return date != null
+                && !date.isBefore(startDate)
+                && !date.isAfter(endDate);
+    }
+}
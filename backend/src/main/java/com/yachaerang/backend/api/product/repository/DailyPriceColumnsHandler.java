@@ -0,0 +1,88 @@
+package com.yachaerang.backend.api.product.repository;
+
+import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+/*
+일별 가격 조회 결과를 원시 타입 배열로 바로 쌓는 ResultHandler
+- 행 객체는 배열에 옮긴 뒤 바로 버려지므로 결과 크기만큼의 객체 목록이 남지 않음
+- 조회 기간의 일수로 배열을 미리 잡아서 대부분 재할당 없이 채움
+- 가격/변화율이 NULL인 행은 값 배열에 0을 넣고 priceValid/changeValid에 false로 표시 (실제 0과 구분)
+ */
+public class DailyPriceColumnsHandler implements ResultHandler<DailyPriceResponseDto.PriceRecordDto> {
+
+    private static final int MAX_INITIAL_CAPACITY = 4096;
+
+    private long[] epochDays;
+    private long[] prices;
+    private int[] changeBasisPoints;
+    private boolean[] priceValid;
+    private boolean[] changeValid;
+    private int size;
+
+    public DailyPriceColumnsHandler(LocalDate startDate, LocalDate endDate) {
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        int capacity = (int) Math.max(1, Math.min(days, MAX_INITIAL_CAPACITY));
+        this.epochDays = new long[capacity];
+        this.prices = new long[capacity];
+        this.changeBasisPoints = new int[capacity];
+        this.priceValid = new boolean[capacity];
+        this.changeValid = new boolean[capacity];
+    }
+
+    @Override
+    public void handleResult(ResultContext<? extends DailyPriceResponseDto.PriceRecordDto> resultContext) {
+        DailyPriceResponseDto.PriceRecordDto record = resultContext.getResultObject();
+        if (size == epochDays.length) {
+            grow();
+        }
+        epochDays[size] = record.getPriceDate().toEpochDay();
+        priceValid[size] = record.getPrice() != null;
+        prices[size] = priceValid[size] ? record.getPrice() : 0L;
+        changeValid[size] = record.getPriceChangeRate() != null;
+        changeBasisPoints[size] = changeValid[size] ? toBasisPoints(record.getPriceChangeRate()) : 0;
+        size++;
+    }
+
+    public DailyPriceResponseDto.ColumnarDto toColumnar() {
+        // 미리 잡은 크기와 결과 수가 같으면 복사 없이 그대로 사용
+        if (size != epochDays.length) {
+            epochDays = Arrays.copyOf(epochDays, size);
+            prices = Arrays.copyOf(prices, size);
+            changeBasisPoints = Arrays.copyOf(changeBasisPoints, size);
+            priceValid = Arrays.copyOf(priceValid, size);
+            changeValid = Arrays.copyOf(changeValid, size);
+        }
+        return DailyPriceResponseDto.ColumnarDto.builder()
+                .size(size)
+                .epochDays(epochDays)
+                .prices(prices)
+                .changeBasisPoints(changeBasisPoints)
+                .priceValid(priceValid)
+                .changeValid(changeValid)
+                .build();
+    }
+
+    private void grow() {
+        int capacity = epochDays.length * 2;
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        changeBasisPoints = Arrays.copyOf(changeBasisPoints, capacity);
+        priceValid = Arrays.copyOf(priceValid, capacity);
+        changeValid = Arrays.copyOf(changeValid, capacity);
+    }
+
+    /*
+    변화율(%)을 basis point로 변환 (3.25% -> 325)
+     */
+    private static int toBasisPoints(BigDecimal priceChangeRate) {
+        return priceChangeRate.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValue();
+    }
+}
@@ -0,0 +1,132 @@
+package com.yachaerang.backend.api.product.repository;
+
+import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+일별 가격 조회 결과를 LTTB(Largest-Triangle-Three-Buckets)로 줄이는 ResultHandler
+- 첫 행과 마지막 행은 항상 남기고, 그 사이를 조회 기간 기준의 같은 날짜 폭 버킷으로 나눠 버킷마다 1개씩 선택
+- 버킷을 날짜로 나누기 때문에 전체 행 수를 몰라도 한 번의 순회로 처리 가능
+- 선택 대기 중인 버킷과 현재 버킷 2개만 들고 있으므로 기간이 길어도 메모리는 버킷 크기만큼만 사용
+ */
+public class DailyPriceDownsampler implements ResultHandler<DailyPriceResponseDto.PriceRecordDto> {
+
+    private final long startDay;
+    private final long totalDays;
+    private final int bucketCount;
+
+    private final List<DailyPriceResponseDto.PriceRecordDto> sampled;
+    private DailyPriceResponseDto.PriceRecordDto anchor;
+
+    private List<DailyPriceResponseDto.PriceRecordDto> pending = new ArrayList<>();
+    private List<DailyPriceResponseDto.PriceRecordDto> current = new ArrayList<>();
+    private int currentBucket = -1;
+
+    public DailyPriceDownsampler(LocalDate startDate, LocalDate endDate, int maxPoints) {
+        this.startDay = startDate.toEpochDay();
+        this.totalDays = endDate.toEpochDay() - startDay + 1;
+        this.bucketCount = maxPoints - 2;
+        this.sampled = new ArrayList<>(maxPoints);
+    }
+
+    @Override
+    public void handleResult(ResultContext<? extends DailyPriceResponseDto.PriceRecordDto> resultContext) {
+        DailyPriceResponseDto.PriceRecordDto record = resultContext.getResultObject();
+        if (anchor == null) {
+            anchor = record;
+            sampled.add(record);
+            return;
+        }
+
+        int bucket = bucketOf(record);
+        if (bucket != currentBucket) {
+            // 현재 버킷이 닫히면 대기 중인 버킷을 확정 (다음 버킷의 평균이 필요하므로 한 버킷씩 늦게 선택)
+            if (!pending.isEmpty()) {
+                selectFrom(pending, averageX(current), averageY(current));
+            }
+            pending = current;
+            current = new ArrayList<>();
+            currentBucket = bucket;
+        }
+        current.add(record);
+    }
+
+    public List<DailyPriceResponseDto.PriceRecordDto> getResult() {
+        if (current.isEmpty()) {
+            return sampled;
+        }
+        // 마지막 행은 버킷에서 빼서 항상 남김
+        DailyPriceResponseDto.PriceRecordDto last = current.remove(current.size() - 1);
+        if (!pending.isEmpty()) {
+            if (current.isEmpty()) {
+                selectFrom(pending, x(last), y(last));
+            } else {
+                selectFrom(pending, averageX(current), averageY(current));
+            }
+        }
+        if (!current.isEmpty()) {
+            selectFrom(current, x(last), y(last));
+        }
+        sampled.add(last);
+
+        pending = new ArrayList<>();
+        current = new ArrayList<>();
+        return sampled;
+    }
+
+    /*
+    직전 선택점(anchor)과 다음 버킷 평균점으로 만든 삼각형의 넓이가 가장 큰 행을 선택
+     */
+    private void selectFrom(List<DailyPriceResponseDto.PriceRecordDto> bucket, double nextX, double nextY) {
+        double anchorX = x(anchor);
+        double anchorY = y(anchor);
+
+        DailyPriceResponseDto.PriceRecordDto selected = bucket.get(0);
+        double maxArea = -1;
+        for (DailyPriceResponseDto.PriceRecordDto record : bucket) {
+            double area = Math.abs((anchorX - nextX) * (y(record) - anchorY)
+                    - (anchorX - x(record)) * (nextY - anchorY));
+            if (area > maxArea) {
+                maxArea = area;
+                selected = record;
+            }
+        }
+        sampled.add(selected);
+        anchor = selected;
+    }
+
+    private int bucketOf(DailyPriceResponseDto.PriceRecordDto record) {
+        long offset = record.getPriceDate().toEpochDay() - startDay;
+        int bucket = (int) (offset * bucketCount / totalDays);
+        return Math.min(Math.max(bucket, 0), bucketCount - 1);
+    }
+
+    private static double averageX(List<DailyPriceResponseDto.PriceRecordDto> bucket) {
+        double sum = 0;
+        for (DailyPriceResponseDto.PriceRecordDto record : bucket) {
+            sum += x(record);
+        }
+        return sum / bucket.size();
+    }
+
+    private static double averageY(List<DailyPriceResponseDto.PriceRecordDto> bucket) {
+        double sum = 0;
+        for (DailyPriceResponseDto.PriceRecordDto record : bucket) {
+            sum += y(record);
+        }
+        return sum / bucket.size();
+    }
+
+    private static double x(DailyPriceResponseDto.PriceRecordDto record) {
+        return record.getPriceDate().toEpochDay();
+    }
+
+    private static double y(DailyPriceResponseDto.PriceRecordDto record) {
+        return record.getPrice() == null ? 0 : record.getPrice();
+    }
+}
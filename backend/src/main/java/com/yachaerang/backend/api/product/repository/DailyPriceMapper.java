@@ -1,8 +1,11 @@
 package com.yachaerang.backend.api.product.repository;
 
 import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import com.yachaerang.backend.api.product.vo.ProductPriceRank;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -20,16 +23,28 @@ public interface DailyPriceMapper {
             );
 
     /*
-    특정날짜를 기준으로 가격 내림차순 정렬을 기반으로 보여주기
+    getPriceDuration과 같은 조회를 목록으로 모으지 않고 한 행씩 handler로 전달 (열 단위 변환, 다운샘플링)
      */
-    List<DailyPriceResponseDto.RankDto> getPricesDescending(
-            @Param("priceDate") LocalDate priceDate
+    void getPriceDurationColumns(
+            @Param("productCode") String productCode,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            ResultHandler<DailyPriceResponseDto.PriceRecordDto> resultHandler
     );
 
     /*
-    특정날짜를 기준으로 가격 오름차순 정렬을 기반으로 보여주기
+    특정날짜의 모든 상품 가격 조회 - 순위 스냅샷 생성용
      */
-    List<DailyPriceResponseDto.RankDto> getPricesAscending(
+    List<ProductPriceRank> getPriceRanks(
             @Param("priceDate") LocalDate priceDate
     );
+
+    /*
+    여러 상품의 기간 내 가격을 한 번에 조회 (상품 코드, 날짜순 정렬)
+     */
+    List<ProductPriceRecord.Daily> getPriceDurations(
+            @Param("productCodes") List<String> productCodes,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 }
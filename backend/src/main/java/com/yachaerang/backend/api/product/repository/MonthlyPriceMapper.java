@@ -1,6 +1,7 @@
 package com.yachaerang.backend.api.product.repository;
 
 import com.yachaerang.backend.api.product.dto.response.MonthlyPriceResponseDto;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -17,4 +18,13 @@ public interface MonthlyPriceMapper {
             @Param("startYear") Integer startYear, @Param("startMonth") Integer startMonth,
             @Param("endYear") Integer endYear, @Param("endMonth") Integer endMonth
     );
+
+    /*
+    여러 상품의 기간 내 월별 가격을 한 번에 조회
+     */
+    List<ProductPriceRecord.Monthly> getPriceDurations(
+            @Param("productCodes") List<String> productCodes,
+            @Param("startYear") Integer startYear, @Param("startMonth") Integer startMonth,
+            @Param("endYear") Integer endYear, @Param("endMonth") Integer endMonth
+    );
 }
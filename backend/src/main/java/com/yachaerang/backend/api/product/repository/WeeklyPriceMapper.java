@@ -1,6 +1,7 @@
 package com.yachaerang.backend.api.product.repository;
 
 import com.yachaerang.backend.api.product.dto.response.WeeklyPriceResponseDto;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -18,4 +19,13 @@ public interface WeeklyPriceMapper {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
             );
+
+    /*
+    여러 상품의 기간 내 주차별 가격을 한 번에 조회
+     */
+    List<ProductPriceRecord.Weekly> getPriceDurations(
+            @Param("productCodes") List<String> productCodes,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
 }
@@ -1,6 +1,7 @@
 package com.yachaerang.backend.api.product.repository;
 
 import com.yachaerang.backend.api.product.dto.response.YearlyPriceResponseDto;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -25,4 +26,13 @@ public interface YearlyPriceMapper {
             @Param("productCode") String productCode,
             @Param("year") Integer year
     );
+
+    /*
+    여러 상품의 기간 내 연도별 가격을 한 번에 조회
+     */
+    List<ProductPriceRecord.Yearly> getPriceDurations(
+            @Param("productCodes") List<String> productCodes,
+            @Param("startYear") Integer startYear,
+            @Param("endYear") Integer endYear
+    );
 }
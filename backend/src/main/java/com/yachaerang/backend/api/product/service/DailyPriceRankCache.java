@@ -0,0 +1,98 @@
+package com.yachaerang.backend.api.product.service;
+
+import com.yachaerang.backend.api.product.event.PriceUpdatedEvent;
+import com.yachaerang.backend.api.product.repository.DailyPriceMapper;
+import com.yachaerang.backend.api.product.vo.DailyPriceRankSnapshot;
+import com.yachaerang.backend.api.product.vo.ProductPriceRank;
+import com.yachaerang.backend.global.util.LogUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ 일별 가격 순위 스냅샷을 메모리에 보관
+ - 일별 가격은 배치(dailyPriceJob)가 끝날 때 하루 한 번 바뀌므로 날짜별로 한 번만 조회
+ - 배치가 끝나기 전의 빈 결과는 보관하지 않고 다음 요청에서 다시 조회
+ - 배치 도중 만들어진 스냅샷을 대비하여 SNAPSHOT_TTL이 지나면 다시 생성
+ - 배치 완료 시 발행되는 가격 갱신 이벤트로 해당 날짜의 스냅샷을 즉시 갱신
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyPriceRankCache {
+
+    private static final Duration SNAPSHOT_TTL = Duration.ofHours(1);
+
+    private final DailyPriceMapper dailyPriceMapper;
+
+    private final AtomicReference<DailyPriceRankSnapshot> current = new AtomicReference<>();
+    private final Object buildLock = new Object();
+
+    /*
+    해당 날짜의 스냅샷 반환, 없거나 만료되었으면 새로 생성
+     */
+    public DailyPriceRankSnapshot get(LocalDate priceDate) {
+        DailyPriceRankSnapshot snapshot = current.get();
+        if (isAvailable(snapshot, priceDate)) {
+            return snapshot;
+        }
+        // 동시에 몰린 요청이 모두 DB를 조회하지 않도록 한 스레드만 생성
+        synchronized (buildLock) {
+            snapshot = current.get();
+            if (isAvailable(snapshot, priceDate)) {
+                return snapshot;
+            }
+            return build(priceDate);
+        }
+    }
+
+    /*
+    해당 날짜의 스냅샷을 강제로 다시 생성
+     */
+    public DailyPriceRankSnapshot refresh(LocalDate priceDate) {
+        synchronized (buildLock) {
+            return build(priceDate);
+        }
+    }
+
+    /*
+    갱신 기간에 보관 중인 스냅샷 날짜가 포함되면 다시 생성
+    - 보관 중인 스냅샷이 없으면 다음 요청에서 생성되므로 아무것도 하지 않음
+     */
+    public void refreshIfAffected(PriceUpdatedEvent event) {
+        DailyPriceRankSnapshot snapshot = current.get();
+        if (snapshot == null || !event.covers(snapshot.getPriceDate())) {
+            return;
+        }
+        refresh(snapshot.getPriceDate());
+    }
+
+    /*
+    보관 중인 스냅샷 제거
+     */
+    public void evict() {
+        current.set(null);
+    }
+
+    private DailyPriceRankSnapshot build(LocalDate priceDate) {
+        List<ProductPriceRank> ranks = dailyPriceMapper.getPriceRanks(priceDate);
+        DailyPriceRankSnapshot snapshot = DailyPriceRankSnapshot.of(priceDate, ranks);
+        if (snapshot.isEmpty()) {
+            LogUtil.debug("일별 가격 순위 데이터 없음, 스냅샷 보관하지 않음 : {}", priceDate);
+            return snapshot;
+        }
+        current.set(snapshot);
+        LogUtil.debug("일별 가격 순위 스냅샷 생성 : {} ({}건)", priceDate, ranks.size());
+        return snapshot;
+    }
+
+    private boolean isAvailable(DailyPriceRankSnapshot snapshot, LocalDate priceDate) {
+        return snapshot != null
+                && snapshot.getPriceDate().equals(priceDate)
+                && snapshot.getCreatedAt().plus(SNAPSHOT_TTL).isAfter(Instant.now());
+    }
+}
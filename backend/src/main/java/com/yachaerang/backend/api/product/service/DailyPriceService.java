@@ -1,7 +1,11 @@
 package com.yachaerang.backend.api.product.service;
 
 import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import com.yachaerang.backend.api.product.repository.DailyPriceColumnsHandler;
+import com.yachaerang.backend.api.product.repository.DailyPriceDownsampler;
 import com.yachaerang.backend.api.product.repository.DailyPriceMapper;
+import com.yachaerang.backend.global.exception.GeneralException;
+import com.yachaerang.backend.global.response.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Service
@@ -16,7 +21,12 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class DailyPriceService {
 
+    private static final int MAX_RANK_LIMIT = 50;
+    private static final int MIN_MAX_POINTS = 3;
+    private static final int MAX_MAX_POINTS = 2000;
+
     private final DailyPriceMapper dailyPriceMapper;
+    private final DailyPriceRankCache dailyPriceRankCache;
 
     /*
     해당 기간 동안의 가격 전부 가져오기
@@ -26,21 +36,65 @@ public class DailyPriceService {
         return dailyPriceMapper.getPriceDuration(productCode, startDate, endDate);
     }
 
+    /*
+    해당 기간 동안의 가격을 최대 maxPoints개로 줄여서 가져오기 (LTTB)
+    - 기간의 일수가 maxPoints 이하면 줄일 필요가 없으므로 그대로 조회
+     */
+    public List<DailyPriceResponseDto.PriceRecordDto> getDailyPrice(
+            String productCode, LocalDate startDate, LocalDate endDate, int maxPoints) {
+        if (maxPoints < MIN_MAX_POINTS || maxPoints > MAX_MAX_POINTS) {
+            throw GeneralException.of(ErrorCode.INVALID_MAX_POINTS);
+        }
+        if (endDate.isBefore(startDate)) {
+            throw GeneralException.of(ErrorCode.WRONG_REQUEST_DATE);
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) + 1 <= maxPoints) {
+            return dailyPriceMapper.getPriceDuration(productCode, startDate, endDate);
+        }
+        DailyPriceDownsampler downsampler = new DailyPriceDownsampler(startDate, endDate, maxPoints);
+        dailyPriceMapper.getPriceDurationColumns(productCode, startDate, endDate, downsampler);
+        return downsampler.getResult();
+    }
+
+    /*
+    해당 기간 동안의 가격을 열 단위 배열로 가져오기 - 긴 기간 차트용
+     */
+    public DailyPriceResponseDto.ColumnarDto getDailyPriceColumns(
+            String productCode, LocalDate startDate, LocalDate endDate) {
+        if (endDate.isBefore(startDate)) {
+            throw GeneralException.of(ErrorCode.WRONG_REQUEST_DATE);
+        }
+        DailyPriceColumnsHandler handler = new DailyPriceColumnsHandler(startDate, endDate);
+        dailyPriceMapper.getPriceDurationColumns(productCode, startDate, endDate, handler);
+        return handler.toColumnar();
+    }
+
     /*
     어제자를 기준으로 가격이 높은 것부터 보여주기
+    - 매 요청마다 DB를 조회하지 않고 메모리의 순위 스냅샷에서 반환
+    - categoryCode(100~600)가 있으면 해당 부류 내 순위
      */
-    public List<DailyPriceResponseDto.RankDto> getHighPriceRank() {
-        ZonedDateTime today = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-        ZonedDateTime yesterday = today.minusDays(1);
-        return dailyPriceMapper.getPricesDescending(yesterday.toLocalDate());
+    public List<DailyPriceResponseDto.RankDto> getHighPriceRank(String categoryCode, int limit) {
+        validateRankLimit(limit);
+        return dailyPriceRankCache.get(getYesterday()).getHighPrices(categoryCode, limit);
     }
 
     /*
     어제자를 기준으로 가격이 낮은 것부터 보여주기
      */
-    public List<DailyPriceResponseDto.RankDto> getLowPriceRank() {
+    public List<DailyPriceResponseDto.RankDto> getLowPriceRank(String categoryCode, int limit) {
+        validateRankLimit(limit);
+        return dailyPriceRankCache.get(getYesterday()).getLowPrices(categoryCode, limit);
+    }
+
+    private LocalDate getYesterday() {
         ZonedDateTime today = ZonedDateTime.now(ZoneId.of("Asia/Seoul"));
-        ZonedDateTime yesterday = today.minusDays(1);
-        return dailyPriceMapper.getPricesAscending(yesterday.toLocalDate());
+        return today.minusDays(1).toLocalDate();
+    }
+
+    private void validateRankLimit(int limit) {
+        if (limit < 1 || limit > MAX_RANK_LIMIT) {
+            throw GeneralException.of(ErrorCode.INVALID_RANK_LIMIT);
+        }
     }
 }
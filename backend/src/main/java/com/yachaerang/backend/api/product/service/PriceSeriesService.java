@@ -0,0 +1,109 @@
+package com.yachaerang.backend.api.product.service;
+
+import com.yachaerang.backend.api.common.PeriodType;
+import com.yachaerang.backend.api.product.dto.response.PriceSeriesResponseDto;
+import com.yachaerang.backend.api.product.repository.DailyPriceMapper;
+import com.yachaerang.backend.api.product.repository.MonthlyPriceMapper;
+import com.yachaerang.backend.api.product.repository.WeeklyPriceMapper;
+import com.yachaerang.backend.api.product.repository.YearlyPriceMapper;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
+import com.yachaerang.backend.global.exception.GeneralException;
+import com.yachaerang.backend.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PriceSeriesService {
+
+    private static final int MAX_SERIES_PRODUCTS = 30;
+
+    private final DailyPriceMapper dailyPriceMapper;
+    private final WeeklyPriceMapper weeklyPriceMapper;
+    private final MonthlyPriceMapper monthlyPriceMapper;
+    private final YearlyPriceMapper yearlyPriceMapper;
+
+    /*
+    여러 상품의 기간별 가격을 한 번에 조회
+    - 기간 단위마다 IN 쿼리 한 번으로 가져와서 상품 코드별로 묶기
+    - 월별은 startDate/endDate의 연월, 연도별은 연도만 사용
+    - 요청한 상품 순서대로 반환하고 데이터가 없는 상품은 빈 목록
+     */
+    public List<PriceSeriesResponseDto.SeriesDto> getPriceSeries(
+            List<String> productCodes, PeriodType periodType,
+            LocalDate startDate, LocalDate endDate
+    ) {
+        List<String> codes = normalizeProductCodes(productCodes);
+        if (endDate.isBefore(startDate)) {
+            throw GeneralException.of(ErrorCode.WRONG_REQUEST_DATE);
+        }
+
+        Map<String, List<Object>> grouped = switch (periodType) {
+            case DAILY -> groupByProductCode(codes,
+                    dailyPriceMapper.getPriceDurations(codes, startDate, endDate),
+                    ProductPriceRecord.Daily::getProductCode);
+            case WEEKLY -> groupByProductCode(codes,
+                    weeklyPriceMapper.getPriceDurations(codes, startDate, endDate),
+                    ProductPriceRecord.Weekly::getProductCode);
+            case MONTHLY -> groupByProductCode(codes,
+                    monthlyPriceMapper.getPriceDurations(codes,
+                            startDate.getYear(), startDate.getMonthValue(),
+                            endDate.getYear(), endDate.getMonthValue()),
+                    ProductPriceRecord.Monthly::getProductCode);
+            case YEARLY -> groupByProductCode(codes,
+                    yearlyPriceMapper.getPriceDurations(codes, startDate.getYear(), endDate.getYear()),
+                    ProductPriceRecord.Yearly::getProductCode);
+        };
+
+        List<PriceSeriesResponseDto.SeriesDto> result = new ArrayList<>(codes.size());
+        grouped.forEach((productCode, prices) -> result.add(
+                PriceSeriesResponseDto.SeriesDto.builder()
+                        .productCode(productCode)
+                        .periodType(periodType)
+                        .prices(prices)
+                        .build()));
+        return result;
+    }
+
+    /*
+    공백 제거 및 중복 제거 (요청 순서 유지)
+     */
+    private List<String> normalizeProductCodes(List<String> productCodes) {
+        Set<String> codes = new LinkedHashSet<>();
+        if (productCodes != null) {
+            for (String productCode : productCodes) {
+                if (productCode != null && !productCode.isBlank()) {
+                    codes.add(productCode.trim());
+                }
+            }
+        }
+        if (codes.isEmpty() || codes.size() > MAX_SERIES_PRODUCTS) {
+            throw GeneralException.of(ErrorCode.INVALID_SERIES_PRODUCTS);
+        }
+        return new ArrayList<>(codes);
+    }
+
+    /*
+    상품 코드 순으로 정렬된 결과를 요청 순서의 상품별 목록으로 묶기
+     */
+    private <T> Map<String, List<Object>> groupByProductCode(
+            List<String> productCodes, List<T> records, Function<T, String> productCodeOf) {
+        Map<String, List<Object>> grouped = new LinkedHashMap<>();
+        for (String productCode : productCodes) {
+            grouped.put(productCode, new ArrayList<>());
+        }
+        for (T record : records) {
+            List<Object> prices = grouped.get(productCodeOf.apply(record));
+            if (prices != null) {
+                prices.add(record);
+            }
+        }
+        return grouped;
+    }
+}
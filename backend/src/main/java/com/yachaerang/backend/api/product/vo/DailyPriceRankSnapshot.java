@@ -0,0 +1,96 @@
+package com.yachaerang.backend.api.product.vo;
+
+import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/*
+ 특정 날짜의 일별 가격 순위 스냅샷
+ - 생성 이후 변경되지 않으므로 여러 요청 스레드가 동시에 읽어도 안전하다
+ - 전체 순위와 부류(item_code 앞자리 기준 100~600)별 순위를 함께 보관
+ - 낮은 가격 순위는 가격이 0인 상품을 제외
+ */
+@Getter
+public class DailyPriceRankSnapshot {
+
+    private static final Comparator<ProductPriceRank> PRICE_ASC =
+            Comparator.comparing(ProductPriceRank::getPrice)
+                    .thenComparing(ProductPriceRank::getProductCode);
+    private static final Comparator<ProductPriceRank> PRICE_DESC =
+            Comparator.comparing(ProductPriceRank::getPrice).reversed()
+                    .thenComparing(ProductPriceRank::getProductCode);
+
+    private final LocalDate priceDate;
+    private final Instant createdAt;
+
+    private final List<DailyPriceResponseDto.RankDto> highPrices;
+    private final List<DailyPriceResponseDto.RankDto> lowPrices;
+    private final Map<String, List<DailyPriceResponseDto.RankDto>> highPricesByCategory;
+    private final Map<String, List<DailyPriceResponseDto.RankDto>> lowPricesByCategory;
+
+    private DailyPriceRankSnapshot(LocalDate priceDate, Instant createdAt, List<ProductPriceRank> ranks) {
+        this.priceDate = priceDate;
+        this.createdAt = createdAt;
+
+        List<ProductPriceRank> priced = ranks.stream()
+                .filter(rank -> rank.getPrice() != null && rank.getProductCode() != null)
+                .toList();
+        List<ProductPriceRank> nonZero = priced.stream()
+                .filter(rank -> rank.getPrice() != 0L)
+                .toList();
+
+        this.highPrices = sort(priced, PRICE_DESC);
+        this.lowPrices = sort(nonZero, PRICE_ASC);
+        this.highPricesByCategory = groupByCategory(priced, PRICE_DESC);
+        this.lowPricesByCategory = groupByCategory(nonZero, PRICE_ASC);
+    }
+
+    public static DailyPriceRankSnapshot of(LocalDate priceDate, List<ProductPriceRank> ranks) {
+        return new DailyPriceRankSnapshot(priceDate, Instant.now(), ranks);
+    }
+
+    /*
+    가격이 높은 순으로 limit개 반환, categoryCode가 없으면 전체 순위
+     */
+    public List<DailyPriceResponseDto.RankDto> getHighPrices(String categoryCode, int limit) {
+        return top(categoryCode == null ? highPrices : highPricesByCategory.getOrDefault(categoryCode, List.of()), limit);
+    }
+
+    /*
+    가격이 낮은 순으로 limit개 반환, categoryCode가 없으면 전체 순위
+     */
+    public List<DailyPriceResponseDto.RankDto> getLowPrices(String categoryCode, int limit) {
+        return top(categoryCode == null ? lowPrices : lowPricesByCategory.getOrDefault(categoryCode, List.of()), limit);
+    }
+
+    public boolean isEmpty() {
+        return highPrices.isEmpty();
+    }
+
+    private static List<DailyPriceResponseDto.RankDto> top(List<DailyPriceResponseDto.RankDto> ranks, int limit) {
+        return ranks.subList(0, Math.min(limit, ranks.size()));
+    }
+
+    private static List<DailyPriceResponseDto.RankDto> sort(
+            List<ProductPriceRank> ranks, Comparator<ProductPriceRank> order) {
+        return ranks.stream()
+                .sorted(order)
+                .map(ProductPriceRank::toRankDto)
+                .toList();
+    }
+
+    private static Map<String, List<DailyPriceResponseDto.RankDto>> groupByCategory(
+            List<ProductPriceRank> ranks, Comparator<ProductPriceRank> order) {
+        Map<String, List<ProductPriceRank>> grouped = ranks.stream()
+                .filter(rank -> rank.getCategoryCode() != null)
+                .collect(Collectors.groupingBy(ProductPriceRank::getCategoryCode));
+
+        Map<String, List<DailyPriceResponseDto.RankDto>> result = new HashMap<>();
+        grouped.forEach((categoryCode, categoryRanks) -> result.put(categoryCode, sort(categoryRanks, order)));
+        return Map.copyOf(result);
+    }
+}
@@ -0,0 +1,51 @@
+package com.yachaerang.backend.api.product.vo;
+
+import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/*
+ product × daily_price Join 결과를 담기 위한 VO
+ - 순위 스냅샷을 카테고리별로 나누기 위해 itemCode를 함께 담는다
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPriceRank {
+
+    private String productName;
+    private String productCode;
+    private String itemCode;
+    private String itemName;
+    private String kindName;
+    private String unit;
+    private Long price;
+    private Long priceChange;
+    private BigDecimal priceChangeRate;
+
+    /*
+    KAMIS 부류 코드 (item_code 411 -> 400)
+     */
+    public String getCategoryCode() {
+        if (itemCode == null || itemCode.isEmpty()) {
+            return null;
+        }
+        return itemCode.charAt(0) + "00";
+    }
+
+    public DailyPriceResponseDto.RankDto toRankDto() {
+        return DailyPriceResponseDto.RankDto.builder()
+                .productName(productName)
+                .productCode(productCode)
+                .itemName(itemName)
+                .kindName(kindName)
+                .unit(unit)
+                .price(price)
+                .priceChange(priceChange)
+                .priceChangeRate(priceChangeRate)
+                .build();
+    }
+}
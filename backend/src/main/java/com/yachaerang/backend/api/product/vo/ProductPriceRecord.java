@@ -0,0 +1,44 @@
+package com.yachaerang.backend.api.product.vo;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import com.yachaerang.backend.api.product.dto.response.MonthlyPriceResponseDto;
+import com.yachaerang.backend.api.product.dto.response.WeeklyPriceResponseDto;
+import com.yachaerang.backend.api.product.dto.response.YearlyPriceResponseDto;
+import lombok.Getter;
+import lombok.Setter;
+
+/*
+ 여러 상품의 가격을 한 번에 조회할 때 상품 코드별로 묶기 위한 VO
+ - 응답에는 기존 기간별 DTO 형태 그대로 나가도록 productCode는 직렬화하지 않음
+ */
+public class ProductPriceRecord {
+
+    @Getter
+    @Setter
+    public static class Daily extends DailyPriceResponseDto.PriceRecordDto {
+        @JsonIgnore
+        private String productCode;
+    }
+
+    @Getter
+    @Setter
+    public static class Weekly extends WeeklyPriceResponseDto.PriceRecordDto {
+        @JsonIgnore
+        private String productCode;
+    }
+
+    @Getter
+    @Setter
+    public static class Monthly extends MonthlyPriceResponseDto.PriceDto {
+        @JsonIgnore
+        private String productCode;
+    }
+
+    @Getter
+    @Setter
+    public static class Yearly extends YearlyPriceResponseDto.PriceDto {
+        @JsonIgnore
+        private String productCode;
+    }
+}
@@ -0,0 +1,30 @@
+package com.yachaerang.backend.global.auth.controller;
+
+import com.yachaerang.backend.global.auth.dto.response.CacheResponseDto;
+import com.yachaerang.backend.global.auth.jwt.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+인증 캐시 상태 조회 (관리자)
+ */
+@RequestMapping("/api/v1/admin/caches")
+@RestController
+@RequiredArgsConstructor
+public class AuthCacheController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    @GetMapping("/verified-tokens")
+    public CacheResponseDto.StatsDto verifiedTokenStats() {
+        return CacheResponseDto.StatsDto.builder()
+                .size(verifiedTokenCache.size())
+                .hitCount(verifiedTokenCache.hitCount())
+                .missCount(verifiedTokenCache.missCount())
+                .evictionCount(verifiedTokenCache.evictionCount())
+                .hitRate(verifiedTokenCache.hitRate())
+                .build();
+    }
+}
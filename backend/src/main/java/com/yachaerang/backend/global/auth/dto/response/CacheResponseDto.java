@@ -0,0 +1,19 @@
+package com.yachaerang.backend.global.auth.dto.response;
+
+import lombok.*;
+
+public class CacheResponseDto {
+
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatsDto {
+        private int size;
+        private long hitCount;
+        private long missCount;
+        private long evictionCount;
+        private double hitRate;
+    }
+}
@@ -28,6 +28,8 @@ JWT 토큰을 담당하는 Provider Class
 public class JwtTokenProvider {
 
     private final MemberMapper memberMapper;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final VerifiedTokenCache verifiedTokenCache;
     @Value("${spring.jwt.secret}")
     private String secretKey;
 
@@ -91,13 +93,23 @@ public class JwtTokenProvider {
         return memberCode;
     }
 
+    /*
+    토큰 검증과 Authentication 생성을 한 번의 파싱으로 처리
+    - 필터에서 validateToken, getAuthentication을 각각 호출하면 서명 검증을 두 번 하게 됨
+     */
+    public Authentication authenticate(String token) throws Exception {
+        return createAuthentication(parseValidatedClaims(token));
+    }
+
     /*
     반환을 UsernamePasswordAuthenticationToken의 인스턴스로 설정
      */
     public Authentication getAuthentication(String token) throws Exception {
-        Claims claims = getClaimsFromToken(token);
+        return createAuthentication(getClaimsFromToken(token));
+    }
 
-        Member member = memberMapper.findByMemberCode(claims.getSubject());
+    private Authentication createAuthentication(Claims claims) {
+        Member member = memberPrincipalCache.get(claims.getSubject(), memberMapper::findByMemberCode);
         if (member == null) {
             throw GeneralException.of(ErrorCode.MEMBER_NOT_FOUND);
         }
@@ -112,6 +124,20 @@ public class JwtTokenProvider {
     Claims를 반환
      */
     private Claims getClaimsFromToken(String token) throws Exception {
+        if (StringUtils.isEmpty(token)) {
+            return parseClaims(token);
+        }
+        // 이미 서명 검증이 끝난 토큰이면 파싱 생략
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        Claims claims = parseClaims(token);
+        verifiedTokenCache.put(token, claims);
+        return claims;
+    }
+
+    private Claims parseClaims(String token) {
         return Jwts.parser()
                 .setSigningKey(secretKey)
                 .parseClaimsJws(token).getBody();
@@ -121,9 +147,16 @@ public class JwtTokenProvider {
     JWT의 유효성 검증
      */
     public boolean validateToken(String token) throws Exception {
+        parseValidatedClaims(token);
+        return true;
+    }
+
+    /*
+    검증에 성공한 Claims를 반환, 실패 시 원인에 맞는 예외
+     */
+    private Claims parseValidatedClaims(String token) throws Exception {
         try {
-            final Claims claims = getClaimsFromToken(token);
-            return true;
+            return getClaimsFromToken(token);
         } catch (MalformedJwtException e) {
             LogUtil.warn("유효하지 않은 JWT token : {}", e.getMessage());
             throw GeneralException.of(ErrorCode.TOKEN_INVALID);
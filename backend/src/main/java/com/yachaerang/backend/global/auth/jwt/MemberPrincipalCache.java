@@ -0,0 +1,118 @@
+package com.yachaerang.backend.global.auth.jwt;
+
+import com.yachaerang.backend.api.member.entity.Member;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/*
+ JWT 인증 시 사용하는 Member를 memberCode 기준으로 메모리에 보관
+ - 인증된 요청마다 회원 조회 쿼리가 나가지 않도록 PRINCIPAL_TTL 동안 재사용
+ - 최대 MAX_SIZE개까지만 보관하고, 가득 차면 만료된 항목부터 정리
+ - 회원 정보/비밀번호/프로필 사진 변경, 로그아웃 시 해당 회원을 제거
+ */
+@Component
+public class MemberPrincipalCache {
+
+    private static final Duration PRINCIPAL_TTL = Duration.ofMinutes(5);
+    private static final int MAX_SIZE = 10_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /*
+    보관 중인 Member 반환, 없거나 만료되었으면 loader로 조회하여 보관
+    - loader가 null을 반환하면 보관하지 않음
+     */
+    public Member get(String memberCode, Function<String, Member> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(memberCode);
+        if (entry != null && !entry.isExpired(now)) {
+            return entry.member;
+        }
+
+        Member member = loader.apply(memberCode);
+        if (member == null) {
+            entries.remove(memberCode);
+            return null;
+        }
+        if (entries.size() >= MAX_SIZE) {
+            evictExpired(now);
+        }
+        entries.put(memberCode, new Entry(member, now + PRINCIPAL_TTL.toNanos()));
+        return member;
+    }
+
+    /*
+    memberCode로 제거
+    - 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 다른 요청이 이전 정보를 다시 담는 것을 막음
+     */
+    public void evict(String memberCode) {
+        if (memberCode == null) {
+            return;
+        }
+        afterCommit(() -> entries.remove(memberCode));
+    }
+
+    /*
+    회원 ID로 제거 (memberCode를 모르는 수정 요청용)
+     */
+    public void evictByMemberId(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        afterCommit(() -> entries.values().removeIf(entry -> memberId.equals(entry.member.getId())));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        // 만료된 항목이 없으면 임의의 항목을 제거하여 크기를 유지
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (entries.size() >= MAX_SIZE && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                }
+        );
+    }
+
+    private static class Entry {
+        private final Member member;
+        private final long expiresAt;
+
+        private Entry(Member member, long expiresAt) {
+            this.member = member;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
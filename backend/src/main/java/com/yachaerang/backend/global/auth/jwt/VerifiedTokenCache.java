@@ -0,0 +1,161 @@
+package com.yachaerang.backend.global.auth.jwt;
+
+import com.yachaerang.backend.global.util.LogUtil;
+import io.jsonwebtoken.Claims;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ 서명 검증이 끝난 토큰의 Claims를 보관하는 캐시
+ - 같은 Access Token으로 반복되는 요청은 HMAC 검증, Base64 디코딩, JSON 파싱을 생략
+ - 토큰 원문 대신 SHA-256 digest를 키로 사용하여 메모리에 토큰을 남기지 않음
+ - 토큰의 exp가 지나면 보관 중이어도 사용하지 않으며, exp가 없는 토큰은 보관하지 않음
+ - 조회는 잠금 없이 ConcurrentHashMap에서 처리하고, MAX_SIZE를 넘으면 한 스레드만 만료된 항목과
+   가장 오래 사용하지 않은 항목을 EVICT_TO_SIZE까지 한 번에 정리 (근사 LRU)
+ - 적중/미적중/제거 횟수와 적중률은 관리자 API(GET /api/v1/admin/caches/verified-tokens)로 조회하고, 주기적으로 로그에도 기록
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final int MAX_SIZE = 1024;
+    // 넘칠 때마다 정리하지 않도록 여유를 두고 줄임
+    private static final int EVICT_TO_SIZE = MAX_SIZE * 9 / 10;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /*
+    검증된 Claims 반환, 없거나 만료되었으면 null
+     */
+    public Claims get(String token) {
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            entry.lastAccessedAt = System.nanoTime();
+            hits.increment();
+            return entry.claims;
+        }
+        if (entry != null) {
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /*
+    서명 검증이 끝난 Claims 보관
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        entries.put(digest(token), new Entry(claims, expiration.getTime()));
+        if (entries.size() > MAX_SIZE) {
+            evict();
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void logStats() {
+        LogUtil.info("검증된 토큰 캐시 - size: {}, hit: {}, miss: {}, eviction: {}, hitRate: {}",
+                size(), hitCount(), missCount(), evictionCount(), String.format("%.3f", hitRate()));
+    }
+
+    /*
+    만료된 항목을 먼저 지우고, 그래도 많으면 마지막 사용 시각이 오래된 순서로 제거
+    - 이미 다른 스레드가 정리 중이면 기다리지 않음
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            int excess = entries.size() - EVICT_TO_SIZE;
+            if (excess <= 0) {
+                return;
+            }
+            // 정렬 중에 사용 시각이 바뀌지 않도록 복사해 둔 값으로 정렬
+            List<Candidate> candidates = new ArrayList<>(entries.size());
+            entries.forEach((key, entry) -> candidates.add(new Candidate(key, entry, entry.lastAccessedAt)));
+            candidates.sort(Comparator.comparingLong(Candidate::lastAccessedAt));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                Candidate candidate = candidates.get(i);
+                if (entries.remove(candidate.key(), candidate.entry())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Candidate(String key, Entry entry, long lastAccessedAt) {
+    }
+
+    private static class Entry {
+        private final Claims claims;
+        private final long expiresAt;
+        private volatile long lastAccessedAt = System.nanoTime();
+
+        private Entry(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
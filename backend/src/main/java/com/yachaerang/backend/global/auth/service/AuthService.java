@@ -7,6 +7,7 @@ import com.yachaerang.backend.api.member.repository.MemberMapper;
 import com.yachaerang.backend.global.auth.dto.request.TokenRequestDto;
 import com.yachaerang.backend.global.auth.dto.response.TokenResponseDto;
 import com.yachaerang.backend.global.auth.jwt.JwtTokenProvider;
+import com.yachaerang.backend.global.auth.jwt.MemberPrincipalCache;
 import com.yachaerang.backend.global.auth.util.RefreshTokenUtil;
 import com.yachaerang.backend.global.auth.util.UuidGenerator;
 import com.yachaerang.backend.global.exception.GeneralException;
@@ -29,6 +30,7 @@ public class AuthService {
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenUtil refreshTokenUtil;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Value("${external.default-image}")
     private String DEFAULT_IMAGE;
@@ -93,6 +95,7 @@ public class AuthService {
     public void logout(String token) throws Exception {
         String memberCode = jwtTokenProvider.getMemberCodeFromToken(token);
         refreshTokenUtil.deleteRefreshToken(memberCode);
+        memberPrincipalCache.evict(memberCode);
         return;
     }
 
@@ -3,14 +3,18 @@ package com.yachaerang.backend.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yachaerang.backend.api.product.event.PriceUpdateMessageListener;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @RequiredArgsConstructor
 @Configuration
@@ -41,4 +45,18 @@ public class RedisConfig {
         config.setPassword(redisPassword);
         return new LettuceConnectionFactory(config);
     }
+
+    // batch 모듈의 가격 갱신 이벤트 구독 (테스트 등 Redis가 없는 환경에서는 비활성화)
+    @Bean
+    @ConditionalOnProperty(name = "price-event.redis.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer priceEventListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            PriceUpdateMessageListener priceUpdateMessageListener,
+            @Value("${price-event.channel:yachaerang:price-updated}") String channel
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(priceUpdateMessageListener, new ChannelTopic(channel));
+        return container;
+    }
 }
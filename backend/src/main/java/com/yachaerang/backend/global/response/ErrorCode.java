@@ -56,6 +56,11 @@ public enum ErrorCode implements BaseCode{
     WRONG_REQUEST_DATE(HttpStatus.BAD_REQUEST, "DATE_001", "날짜를 올바르게 입력해주세요."),
     INVALID_ISO_WEEK_DATE(HttpStatus.BAD_REQUEST, "DATE_002", "표준 ISO 주간 규칙에 어긋납니다."),
 
+    // price
+    INVALID_RANK_LIMIT(HttpStatus.BAD_REQUEST, "PRICE_001", "순위 조회 개수는 1개 이상 50개 이하로 입력해주세요."),
+    INVALID_SERIES_PRODUCTS(HttpStatus.BAD_REQUEST, "PRICE_002", "한 번에 조회할 상품은 1개 이상 30개 이하로 입력해주세요."),
+    INVALID_MAX_POINTS(HttpStatus.BAD_REQUEST, "PRICE_003", "최대 데이터 개수는 3개 이상 2000개 이하로 입력해주세요."),
+
     // article
     ARTICLE_NOT_FOUND(HttpStatus.BAD_REQUEST, "ARTICLE_001", "기사를 찾을 수 없습니다."),
 
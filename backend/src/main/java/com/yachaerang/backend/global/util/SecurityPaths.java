@@ -17,7 +17,8 @@ public final class SecurityPaths {
             "/api/v1/daily-prices/**",
             "/api/v1/weekly-prices/**",
             "/api/v1/monthly-prices/**",
-            "/api/v1/yearly-prices/**"
+            "/api/v1/yearly-prices/**",
+            "/api/v1/price-series/**"
     };
 
     /**
@@ -36,5 +37,6 @@ public final class SecurityPaths {
      * 관리자 서비스
      */
     public static final String[] ADMIN = {
+            "/api/v1/admin/**"
     };
 }
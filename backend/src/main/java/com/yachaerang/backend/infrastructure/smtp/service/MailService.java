@@ -2,6 +2,7 @@ package com.yachaerang.backend.infrastructure.smtp.service;
 
 import com.yachaerang.backend.api.member.entity.Member;
 import com.yachaerang.backend.api.member.repository.MemberMapper;
+import com.yachaerang.backend.global.auth.jwt.MemberPrincipalCache;
 import com.yachaerang.backend.global.exception.GeneralException;
 import com.yachaerang.backend.global.response.ErrorCode;
 import com.yachaerang.backend.global.util.LogUtil;
@@ -28,6 +29,7 @@ public class MailService {
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final JavaMailSender javaMailSender;
     private final StringRedisTemplate stringRedisTemplate;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Value("${spring.mail.username}")
     private String username;
@@ -145,6 +147,8 @@ public class MailService {
         String tempPassword = generateTempPassword();
         String encodedPassword = bCryptPasswordEncoder.encode(tempPassword);
         memberMapper.updatePassword(email, encodedPassword);
+        // 인증 캐시에 남은 이전 비밀번호로 비밀번호 변경이 통과되지 않도록 제거
+        memberPrincipalCache.evict(member.getMemberCode());
 
         sendTempPasswordMail(email, tempPassword);
     }
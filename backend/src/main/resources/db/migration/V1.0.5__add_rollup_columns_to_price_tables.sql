@@ -0,0 +1,71 @@
+-- 일별 가격이 저장될 때 주간/월간/연간 집계를 이어서 갱신하기 위한 누적값
+ALTER TABLE weekly_price
+    ADD COLUMN price_sum DECIMAL(20, 0) NULL, -- 가격 합계
+    ADD COLUMN first_price_date DATE NULL, -- 기간 내 첫 가격 일자
+    ADD COLUMN start_price DECIMAL(15, 0) NULL, -- 기간 내 첫 가격
+    ADD COLUMN last_price_date DATE NULL, -- 기간 내 마지막 가격 일자
+    ADD COLUMN end_price DECIMAL(15, 0) NULL; -- 기간 내 마지막 가격
+
+ALTER TABLE monthly_price
+    ADD COLUMN price_sum DECIMAL(20, 0) NULL,
+    ADD COLUMN first_price_date DATE NULL,
+    ADD COLUMN start_price DECIMAL(15, 0) NULL,
+    ADD COLUMN last_price_date DATE NULL,
+    ADD COLUMN end_price DECIMAL(15, 0) NULL;
+
+ALTER TABLE yearly_price
+    ADD COLUMN price_sum DECIMAL(20, 0) NULL,
+    ADD COLUMN first_price_date DATE NULL,
+    ADD COLUMN last_price_date DATE NULL;
+
+-- 기존 집계 행의 첫/마지막 가격 일자와 시작/종료 가격을 일별 가격에서 채움
+-- (일자가 비어 있으면 처음 반영되는 일별 가격이 기존 시작 가격을 덮어쓰게 됨)
+-- price_sum은 기존 price_count와 맞지 않을 수 있으므로 채우지 않음 (반영 시 avg_price * price_count로 대신함)
+UPDATE weekly_price wp
+    JOIN (
+        SELECT product_code,
+               DATE_SUB(price_date, INTERVAL WEEKDAY(price_date) DAY) AS start_date,
+               MIN(price_date) AS first_price_date,
+               MAX(price_date) AS last_price_date
+        FROM daily_price
+        GROUP BY product_code, DATE_SUB(price_date, INTERVAL WEEKDAY(price_date) DAY)
+    ) agg ON agg.product_code = wp.product_code AND agg.start_date = wp.start_date
+    JOIN daily_price first_dp ON first_dp.product_code = wp.product_code AND first_dp.price_date = agg.first_price_date
+    JOIN daily_price last_dp ON last_dp.product_code = wp.product_code AND last_dp.price_date = agg.last_price_date
+SET wp.first_price_date = agg.first_price_date,
+    wp.start_price = first_dp.price,
+    wp.last_price_date = agg.last_price_date,
+    wp.end_price = last_dp.price;
+
+UPDATE monthly_price mp
+    JOIN (
+        SELECT product_code,
+               YEAR(price_date) AS price_year,
+               MONTH(price_date) AS price_month,
+               MIN(price_date) AS first_price_date,
+               MAX(price_date) AS last_price_date
+        FROM daily_price
+        GROUP BY product_code, YEAR(price_date), MONTH(price_date)
+    ) agg ON agg.product_code = mp.product_code AND agg.price_year = mp.price_year AND agg.price_month = mp.price_month
+    JOIN daily_price first_dp ON first_dp.product_code = mp.product_code AND first_dp.price_date = agg.first_price_date
+    JOIN daily_price last_dp ON last_dp.product_code = mp.product_code AND last_dp.price_date = agg.last_price_date
+SET mp.first_price_date = agg.first_price_date,
+    mp.start_price = first_dp.price,
+    mp.last_price_date = agg.last_price_date,
+    mp.end_price = last_dp.price;
+
+UPDATE yearly_price yp
+    JOIN (
+        SELECT product_code,
+               YEAR(price_date) AS price_year,
+               MIN(price_date) AS first_price_date,
+               MAX(price_date) AS last_price_date
+        FROM daily_price
+        GROUP BY product_code, YEAR(price_date)
+    ) agg ON agg.product_code = yp.product_code AND agg.price_year = yp.price_year
+    JOIN daily_price first_dp ON first_dp.product_code = yp.product_code AND first_dp.price_date = agg.first_price_date
+    JOIN daily_price last_dp ON last_dp.product_code = yp.product_code AND last_dp.price_date = agg.last_price_date
+SET yp.first_price_date = agg.first_price_date,
+    yp.start_price = first_dp.price,
+    yp.last_price_date = agg.last_price_date,
+    yp.end_price = last_dp.price;
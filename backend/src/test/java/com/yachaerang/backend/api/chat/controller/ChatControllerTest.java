@@ -4,6 +4,8 @@ import com.yachaerang.backend.api.chat.dto.request.ChatRequestDto;
 import com.yachaerang.backend.api.chat.dto.response.ChatResponseDto;
 import com.yachaerang.backend.api.chat.service.ChatService;
 import com.yachaerang.backend.api.common.SenderRole;
+import com.yachaerang.backend.global.exception.GeneralException;
+import com.yachaerang.backend.global.response.ErrorCode;
 import com.yachaerang.backend.global.response.ResponseWrappingAdvice;
 import com.yachaerang.backend.global.util.RestDocsSupport;
 import org.springframework.context.annotation.Import;
@@ -19,6 +21,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -31,6 +35,9 @@ import static org.springframework.restdocs.headers.HeaderDocumentation.requestHe
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Import(ResponseWrappingAdvice.class)
@@ -151,6 +158,80 @@ class ChatControllerTest extends RestDocsSupport {
     }
 
 
+    @Test
+    @DisplayName("[POST] /api/v1/chat/{chatSessionId}/messages - SSE 스트리밍")
+    void streamChat_Success() throws Exception {
+        // given
+        Long chatSessionId = 1L;
+        ChatRequestDto.MessageDto requestDto = ChatRequestDto.MessageDto.builder()
+                .message("안녕하세요")
+                .build();
+
+        given(chatService.streamChatResponse(any(ChatRequestDto.MessageDto.class), eq(chatSessionId)))
+                .willReturn(Flux.just("안녕하세요! ", "무엇을 도와드릴까요?"));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/chat/{chatSessionId}/messages", chatSessionId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header(AUTH_HEADER, TEST_TOKEN)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(
+                        "event:message\ndata:안녕하세요! \n\n"
+                                + "event:message\ndata:무엇을 도와드릴까요?\n\n"
+                                + "event:done\ndata:1\n\n"))
+                .andDo(doc(
+                        "stream-chat",
+                        requestHeaders(
+                                headerWithName("Authorization").description("Access Token"),
+                                headerWithName("Accept").description("text/event-stream")
+                        ),
+                        pathParameters(
+                                parameterWithName("chatSessionId").description("Chat Session ID")
+                        ),
+                        queryParameters()));
+
+        verify(chatService, never()).getChatResponse(any(), any());
+    }
+
+    @Test
+    @DisplayName("SSE 스트리밍 도중 모델 호출이 실패하면 error 이벤트 전송")
+    void streamChat_ModelError() throws Exception {
+        // given
+        Long chatSessionId = 1L;
+        ChatRequestDto.MessageDto requestDto = ChatRequestDto.MessageDto.builder()
+                .message("안녕하세요")
+                .build();
+
+        given(chatService.streamChatResponse(any(ChatRequestDto.MessageDto.class), eq(chatSessionId)))
+                .willReturn(Flux.concat(
+                        Flux.just("안녕"),
+                        Flux.error(GeneralException.of(ErrorCode.AI_MODEL_ERROR))));
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/v1/chat/{chatSessionId}/messages", chatSessionId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header(AUTH_HEADER, TEST_TOKEN)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "event:message\ndata:안녕\n\n"
+                                + "event:error\ndata:" + ErrorCode.AI_MODEL_ERROR.getCode() + "\n\n"));
+    }
+
     @Test
     @DisplayName("[POST] /api/v1/chat/{chatSessionId}/end")
     void endSession_Success() throws Exception {
@@ -0,0 +1,268 @@
+package com.yachaerang.backend.api.chat.service;
+
+import com.yachaerang.backend.api.chat.entity.ChatMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatContextCacheTest {
+
+    private static final Long SESSION_ID = 100L;
+
+    private final ChatContextCache chatContextCache = new ChatContextCache();
+
+    @Test
+    @DisplayName("한 번 조회한 세션은 다시 조회하지 않고 저장된 메시지를 이어붙임")
+    void 조회결과_재사용_및_추가() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Long, List<ChatMessage>> loader = id -> {
+            loadCount.incrementAndGet();
+            return List.of(message(1L, "안녕하세요"), message(2L, "안녕하세요!"));
+        };
+        chatContextCache.getHistory(SESSION_ID, loader);
+
+        // when
+        chatContextCache.append(SESSION_ID, message(3L, "배추 가격 알려줘"), message(4L, "배추는 ..."));
+        List<ChatMessage> history = chatContextCache.getHistory(SESSION_ID, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(history).extracting(ChatMessage::getId).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("보관 중이 아닌 세션에는 추가하지 않음")
+    void 보관중이_아닌_세션_미추가() {
+        // when
+        chatContextCache.append(SESSION_ID, message(1L, "안녕하세요"));
+
+        // then
+        assertThat(chatContextCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 보관 중인 메시지는 중복으로 추가하지 않음")
+    void 중복_메시지_미추가() {
+        // given
+        chatContextCache.getHistory(SESSION_ID, id -> List.of(message(1L, "안녕하세요")));
+
+        // when
+        chatContextCache.append(SESSION_ID, message(1L, "안녕하세요"), message(2L, "안녕하세요!"));
+
+        // then
+        assertThat(chatContextCache.getHistory(SESSION_ID, id -> List.of()))
+                .extracting(ChatMessage::getId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("토큰 예산을 넘으면 오래된 메시지부터 제거")
+    void 토큰_예산_초과시_오래된_메시지_제거() {
+        // given : 메시지당 약 504토큰, 예산(2000) 안에는 3개까지
+        String longContent = "가".repeat(1_000);
+        List<ChatMessage> loaded = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            loaded.add(message(id, longContent));
+        }
+
+        // when
+        List<ChatMessage> history = chatContextCache.getHistory(SESSION_ID, id -> loaded);
+
+        // then
+        assertThat(history).extracting(ChatMessage::getId).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("예산보다 긴 메시지라도 가장 최근 메시지 하나는 남김")
+    void 예산보다_긴_최신_메시지_유지() {
+        // given
+        chatContextCache.getHistory(SESSION_ID, id -> List.of(message(1L, "안녕하세요")));
+
+        // when
+        chatContextCache.append(SESSION_ID, message(2L, "가".repeat(10_000)));
+
+        // then
+        assertThat(chatContextCache.getHistory(SESSION_ID, id -> List.of()))
+                .extracting(ChatMessage::getId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("최대 메시지 개수를 넘으면 오래된 메시지부터 제거")
+    void 최대_메시지_개수_초과시_제거() {
+        // given
+        chatContextCache.getHistory(SESSION_ID, id -> List.of());
+
+        // when
+        for (long id = 1; id <= ChatContextCache.MAX_MESSAGES + 5; id++) {
+            chatContextCache.append(SESSION_ID, message(id, "네"));
+        }
+
+        // then
+        List<ChatMessage> history = chatContextCache.getHistory(SESSION_ID, id -> List.of());
+        assertThat(history).hasSize(ChatContextCache.MAX_MESSAGES);
+        assertThat(history.get(0).getId()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("제거한 세션은 다음 조회 때 다시 조회")
+    void 제거후_재조회() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Long, List<ChatMessage>> loader = id -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        };
+        chatContextCache.getHistory(SESSION_ID, loader);
+
+        // when
+        chatContextCache.evict(SESSION_ID);
+        chatContextCache.getHistory(SESSION_ID, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("한 세션의 DB 조회가 끝나지 않아도 다른 세션은 기다리지 않음")
+    void 조회중에도_다른세션_조회() throws Exception {
+        // given : 1과 17은 ConcurrentHashMap의 같은 bin에 들어감
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<ChatMessage>> slow = CompletableFuture.supplyAsync(() ->
+                chatContextCache.getHistory(1L, id -> {
+                    loading.countDown();
+                    awaitQuietly(release);
+                    return List.of(message(1L, "안녕하세요"));
+                }));
+        assertThat(loading.await(2, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<List<ChatMessage>> other = CompletableFuture.supplyAsync(() ->
+                chatContextCache.getHistory(17L, id -> List.of(message(2L, "배추 가격 알려줘"))));
+
+        // then
+        assertThat(other.get(2, TimeUnit.SECONDS)).extracting(ChatMessage::getId).containsExactly(2L);
+        assertThat(slow).isNotDone();
+        release.countDown();
+        assertThat(slow.get(2, TimeUnit.SECONDS)).extracting(ChatMessage::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("같은 세션의 동시 요청은 한 번만 조회")
+    void 같은세션_동시요청_한번만_조회() throws Exception {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Long, List<ChatMessage>> loader = id -> {
+            loadCount.incrementAndGet();
+            awaitQuietly(release);
+            return List.of(message(1L, "안녕하세요"));
+        };
+
+        // when
+        List<CompletableFuture<List<ChatMessage>>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> chatContextCache.getHistory(SESSION_ID, loader)));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (CompletableFuture<List<ChatMessage>> future : futures) {
+            assertThat(future.get(2, TimeUnit.SECONDS)).extracting(ChatMessage::getId).containsExactly(1L);
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회가 실패하면 다음 요청에서 다시 조회")
+    void 조회실패후_재조회() {
+        // given
+        Function<Long, List<ChatMessage>> failing = id -> {
+            throw new IllegalStateException("DB 오류");
+        };
+        try {
+            chatContextCache.getHistory(SESSION_ID, failing);
+        } catch (IllegalStateException ignored) {
+        }
+
+        // when
+        chatContextCache.append(SESSION_ID, message(2L, "배추는 ..."));
+        List<ChatMessage> history = chatContextCache.getHistory(SESSION_ID, id -> List.of(message(1L, "안녕하세요")));
+
+        // then
+        assertThat(history).extracting(ChatMessage::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("최대 세션 수에 닿으면 가장 오래 사용하지 않은 세션부터 정리")
+    void 최대세션수_초과시_정리() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<Long, List<ChatMessage>> loader = id -> {
+            loadCount.incrementAndGet();
+            return List.of();
+        };
+        for (long id = 0; id < 1_000; id++) {
+            chatContextCache.getHistory(id, loader);
+        }
+        // 0번 세션을 최근 사용으로 갱신
+        chatContextCache.getHistory(0L, loader);
+
+        // when
+        chatContextCache.getHistory(1_000L, loader);
+
+        // then
+        assertThat(chatContextCache.size()).isLessThanOrEqualTo(901);
+        chatContextCache.getHistory(0L, loader);
+        assertThat(loadCount.get()).isEqualTo(1_001);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 제거하면 커밋 이후에 제거")
+    void 트랜잭션_커밋후_제거() {
+        // given
+        chatContextCache.getHistory(SESSION_ID, id -> List.of(message(1L, "안녕하세요")));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            chatContextCache.evict(SESSION_ID);
+
+            // then
+            assertThat(chatContextCache.size()).isEqualTo(1);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertThat(chatContextCache.size()).isZero();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ChatMessage message(Long id, String content) {
+        ChatMessage chatMessage = ChatMessage.ofUser(SESSION_ID, 1L, content);
+        chatMessage.setId(id);
+        return chatMessage;
+    }
+}
@@ -0,0 +1,131 @@
+package com.yachaerang.backend.api.chat.service;
+
+import com.yachaerang.backend.api.chat.dto.request.ChatRequestDto;
+import com.yachaerang.backend.api.chat.entity.ChatMessage;
+import com.yachaerang.backend.api.chat.entity.ChatSession;
+import com.yachaerang.backend.api.chat.repository.ChatMessageMapper;
+import com.yachaerang.backend.api.chat.repository.ChatSessionMapper;
+import com.yachaerang.backend.api.product.repository.DailyPriceMapper;
+import com.yachaerang.backend.global.auth.jwt.AuthenticatedMemberProvider;
+import com.yachaerang.backend.global.config.MyBatisConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.google.genai.GoogleGenAiChatModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlMergeMode;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/*
+모델 응답을 기다리는 동안 DB 커넥션을 잡지 않는지 확인
+- 커넥션 풀 크기(2)보다 많은 채팅이 동시에 모델 응답을 기다리는 상황에서도 가격 조회가 바로 처리되어야 함
+ */
+@MybatisTest
+@ActiveProfiles("test")
+@Sql("classpath:H2_schema.sql")
+@SqlMergeMode(SqlMergeMode.MergeMode.MERGE)
+@Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_CLASS)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        // 여러 커넥션이 같은 스키마를 보도록 커넥션마다 스키마 지정
+        "spring.datasource.url=jdbc:h2:mem:chatpooltest;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS yachaerang\\\\;SET SCHEMA yachaerang",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+@Import({MyBatisConfig.class, ChatService.class, ChatContextCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatServiceConnectionPoolTest {
+
+    private static final int CONCURRENT_CHATS = 4;
+
+    @Autowired private ChatService chatService;
+    @Autowired private ChatSessionMapper chatSessionMapper;
+    @Autowired private ChatMessageMapper chatMessageMapper;
+    @Autowired private DailyPriceMapper dailyPriceMapper;
+    @Autowired private DataSource dataSource;
+
+    @MockitoBean private GoogleGenAiChatModel googleGenAiChatModel;
+    @MockitoBean private AuthenticatedMemberProvider authenticatedMemberProvider;
+
+    @Test
+    @DisplayName("풀 크기보다 많은 채팅이 모델 응답을 기다려도 다른 조회는 막히지 않음")
+    @Sql(scripts = "/sql/chat-session-test-data.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    void 모델_응답_대기중_커넥션_미점유() throws Exception {
+        // given
+        Long memberId = 1L;
+        ChatSession chatSession = ChatSession.builder().senderId(memberId).build();
+        chatSessionMapper.save(chatSession);
+        Long chatSessionId = chatSession.getChatSessionId();
+
+        CountDownLatch modelCalled = new CountDownLatch(CONCURRENT_CHATS);
+        CountDownLatch modelRelease = new CountDownLatch(1);
+        given(authenticatedMemberProvider.getCurrentMemberId()).willReturn(memberId);
+        given(googleGenAiChatModel.call(any(Prompt.class))).willAnswer(invocation -> {
+            modelCalled.countDown();
+            modelRelease.await(10, TimeUnit.SECONDS);
+            return new ChatResponse(List.of(new Generation(new AssistantMessage("응답"))));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CHATS);
+        try {
+            List<Future<?>> chats = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_CHATS; i++) {
+                ChatRequestDto.MessageDto requestDto = ChatRequestDto.MessageDto.builder()
+                        .message("질문 " + i)
+                        .build();
+                chats.add(executor.submit(() -> chatService.getChatResponse(requestDto, chatSessionId)));
+            }
+
+            // when : 모든 채팅이 모델 응답을 기다리는 중
+            assertThat(modelCalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // then : 잡고 있는 커넥션이 없고, 다른 조회가 커넥션 대기 없이 처리됨
+            HikariDataSource hikariDataSource = dataSource.unwrap(HikariDataSource.class);
+            assertThat(hikariDataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+            assertTimeoutPreemptively(Duration.ofSeconds(1), () ->
+                    dailyPriceMapper.getPriceDuration("KM-411-01-04",
+                            LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+
+            modelRelease.countDown();
+            for (Future<?> chat : chats) {
+                chat.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            modelRelease.countDown();
+            executor.shutdownNow();
+        }
+
+        List<ChatMessage> savedMessages =
+                chatMessageMapper.findAllByChatSessionIdOrderByCreatedAtAsc(chatSessionId, Integer.MAX_VALUE);
+        assertThat(savedMessages).hasSize(CONCURRENT_CHATS * 2);
+    }
+}
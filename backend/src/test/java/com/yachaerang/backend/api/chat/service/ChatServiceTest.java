@@ -10,12 +10,15 @@ import com.yachaerang.backend.api.common.SenderRole;
 import com.yachaerang.backend.api.common.SessionStatus;
 import com.yachaerang.backend.global.auth.jwt.AuthenticatedMemberProvider;
 import com.yachaerang.backend.global.exception.GeneralException;
+import com.yachaerang.backend.global.response.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.ai.chat.messages.AssistantMessage;
 import org.springframework.ai.chat.model.ChatResponse;
@@ -23,6 +26,8 @@ import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.google.genai.GoogleGenAiChatModel;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -45,6 +50,10 @@ class ChatServiceTest {
 
     @Mock private ChatMessageMapper chatMessageMapper;
 
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Spy private ChatContextCache chatContextCache = new ChatContextCache();
+
     @InjectMocks private ChatService chatService;
 
     private Long memberId;
@@ -106,7 +115,7 @@ class ChatServiceTest {
 
         when(authenticatedMemberProvider.getCurrentMemberId()).thenReturn(memberId);
         when(chatSessionMapper.findById(sessionId)).thenReturn(Optional.of(chatSession));
-        when(chatMessageMapper.findAllByChatSessionIdOrderByCreatedAtAsc(eq(sessionId), anyInt()))
+        when(chatMessageMapper.findRecentMessagesByChatSessionId(eq(sessionId), anyInt()))
                 .thenReturn(new ArrayList<>()); // 여태까지의 기록
 
         // mock Response from AI
@@ -187,7 +196,7 @@ class ChatServiceTest {
 
         when(authenticatedMemberProvider.getCurrentMemberId()).thenReturn(memberId);
         when(chatSessionMapper.findById(sessionId)).thenReturn(Optional.of(chatSession));
-        when(chatMessageMapper.findAllByChatSessionIdOrderByCreatedAtAsc(eq(sessionId), anyInt()))
+        when(chatMessageMapper.findRecentMessagesByChatSessionId(eq(sessionId), anyInt()))
                 .thenReturn(new ArrayList<>());
         when(googleGenAiChatModel.call(any(Prompt.class))).thenThrow(new RuntimeException("AI 오류"));
 
@@ -213,7 +222,7 @@ class ChatServiceTest {
 
         when(authenticatedMemberProvider.getCurrentMemberId()).thenReturn(memberId);
         when(chatSessionMapper.findById(sessionId)).thenReturn(Optional.of(chatSession));
-        when(chatMessageMapper.findAllByChatSessionIdOrderByCreatedAtAsc(sessionId, 10))
+        when(chatMessageMapper.findRecentMessagesByChatSessionId(sessionId, ChatContextCache.MAX_MESSAGES))
                 .thenReturn(history);
 
         ChatResponse chatResponse = mock(ChatResponse.class);
@@ -246,6 +255,7 @@ class ChatServiceTest {
 
         // then
         verify(chatSessionMapper).updateStatus(any(ChatSession.class));
+        verify(chatContextCache).evict(sessionId);
     }
 
     @Test
@@ -328,4 +338,128 @@ class ChatServiceTest {
         assertThatThrownBy(() -> chatService.getChatHistory(sessionId))
                 .isInstanceOf(GeneralException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스트리밍 응답이 끝나면 조립한 메시지를 저장")
+    void 스트리밍_응답_완료후_저장() {
+        // given
+        ChatRequestDto.MessageDto requestDto = ChatRequestDto.MessageDto.builder()
+                .message("안녕하세요")
+                .build();
+
+        when(authenticatedMemberProvider.getCurrentMemberId()).thenReturn(memberId);
+        when(chatSessionMapper.findById(sessionId)).thenReturn(Optional.of(chatSession));
+        when(chatMessageMapper.findRecentMessagesByChatSessionId(eq(sessionId), anyInt()))
+                .thenReturn(new ArrayList<>());
+        when(googleGenAiChatModel.stream(any(Prompt.class)))
+                .thenReturn(Flux.just(chunk("안녕하세요! "), chunk("무엇을 도와드릴까요?")));
+
+        // when
+        Flux<String> stream = chatService.streamChatResponse(requestDto, sessionId);
+
+        // then
+        verify(chatMessageMapper, never()).save(any(ChatMessage.class));
+        assertThat(stream.collectList().block()).containsExactly("안녕하세요! ", "무엇을 도와드릴까요?");
+        verify(chatMessageMapper).save(argThat((ChatMessage message) ->
+                !message.isUserMessage() && message.getContent().equals("안녕하세요! 무엇을 도와드릴까요?")));
+        verify(chatMessageMapper).save(argThat((ChatMessage message) ->
+                message.isUserMessage() && message.getContent().equals("안녕하세요")));
+    }
+
+    @Test
+    @DisplayName("스트리밍 도중 모델 호출이 실패하면 저장하지 않고 예외")
+    void 스트리밍_모델호출_실패시_예외() {
+        // given
+        ChatRequestDto.MessageDto requestDto = ChatRequestDto.MessageDto.builder()
+                .message("안녕하세요")
+                .build();
+
+        when(authenticatedMemberProvider.getCurrentMemberId()).thenReturn(memberId);
+        when(chatSessionMapper.findById(sessionId)).thenReturn(Optional.of(chatSession));
+        when(chatMessageMapper.findRecentMessagesByChatSessionId(eq(sessionId), anyInt()))
+                .thenReturn(new ArrayList<>());
+        when(googleGenAiChatModel.stream(any(Prompt.class)))
+                .thenReturn(Flux.concat(Flux.just(chunk("안녕")), Flux.error(new RuntimeException("AI 오류"))));
+
+        // when & then
+        assertThatThrownBy(() -> chatService.streamChatResponse(requestDto, sessionId).blockLast())
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.AI_MODEL_ERROR);
+        verify(chatMessageMapper, never()).save(any(ChatMessage.class));
+    }
+
+    @Test
+    @DisplayName("스트리밍 요청도 종료된 세션이면 모델 호출 전에 예외")
+    void 스트리밍_종료된세션_예외() {
+        // given
+        chatSession.end();
+        ChatRequestDto.MessageDto requestDto = ChatRequestDto.MessageDto.builder()
+                .message("안녕하세요")
+                .build();
+
+        when(authenticatedMemberProvider.getCurrentMemberId()).thenReturn(memberId);
+        when(chatSessionMapper.findById(sessionId)).thenReturn(Optional.of(chatSession));
+
+        // when & then
+        assertThatThrownBy(() -> chatService.streamChatResponse(requestDto, sessionId))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SESSION_ALREADY_ENDED);
+        verifyNoInteractions(googleGenAiChatModel);
+    }
+
+    @Test
+    @DisplayName("모델 호출은 조회 트랜잭션이 끝난 뒤, 저장 트랜잭션이 시작되기 전에 수행")
+    void 모델호출_트랜잭션_밖에서_수행() {
+        // given
+        ChatRequestDto.MessageDto requestDto = ChatRequestDto.MessageDto.builder()
+                .message("안녕하세요")
+                .build();
+
+        when(authenticatedMemberProvider.getCurrentMemberId()).thenReturn(memberId);
+        when(chatSessionMapper.findById(sessionId)).thenReturn(Optional.of(chatSession));
+        when(chatMessageMapper.findRecentMessagesByChatSessionId(eq(sessionId), anyInt()))
+                .thenReturn(new ArrayList<>());
+        when(googleGenAiChatModel.call(any(Prompt.class))).thenReturn(chunk("안녕하세요!"));
+
+        // when
+        chatService.getChatResponse(requestDto, sessionId);
+
+        // then
+        InOrder inOrder = inOrder(transactionManager, chatSessionMapper, googleGenAiChatModel, chatMessageMapper);
+        inOrder.verify(transactionManager).getTransaction(argThat(definition -> definition.isReadOnly()));
+        inOrder.verify(chatSessionMapper).findById(sessionId);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(googleGenAiChatModel).call(any(Prompt.class));
+        inOrder.verify(transactionManager).getTransaction(argThat(definition -> !definition.isReadOnly()));
+        inOrder.verify(chatMessageMapper, times(2)).save(any(ChatMessage.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("두 번째 턴부터는 이전 대화기록을 다시 조회하지 않음")
+    void 두번째_턴부터_대화기록_재조회_없음() {
+        // given
+        when(authenticatedMemberProvider.getCurrentMemberId()).thenReturn(memberId);
+        when(chatSessionMapper.findById(sessionId)).thenReturn(Optional.of(chatSession));
+        when(chatMessageMapper.findRecentMessagesByChatSessionId(sessionId, ChatContextCache.MAX_MESSAGES))
+                .thenReturn(new ArrayList<>());
+        when(googleGenAiChatModel.call(any(Prompt.class)))
+                .thenReturn(chunk("첫 번째 답변"), chunk("두 번째 답변"));
+
+        // when
+        chatService.getChatResponse(ChatRequestDto.MessageDto.builder().message("첫 번째 질문").build(), sessionId);
+        chatService.getChatResponse(ChatRequestDto.MessageDto.builder().message("두 번째 질문").build(), sessionId);
+
+        // then : 첫 턴에만 조회하고, 두 번째 턴은 저장된 첫 턴 대화를 포함
+        verify(chatMessageMapper, times(1)).findRecentMessagesByChatSessionId(anyLong(), anyInt());
+        verify(googleGenAiChatModel).call(argThat((Prompt prompt) ->
+                prompt.getInstructions().size() == 4 // System 메시지 + 첫 턴 2개 + 현재 Message
+        ));
+    }
+
+    private ChatResponse chunk(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
@@ -7,6 +7,7 @@ import com.yachaerang.backend.api.member.dto.response.MemberResponseDto;
 import com.yachaerang.backend.api.member.entity.Member;
 import com.yachaerang.backend.api.member.repository.MemberMapper;
 import com.yachaerang.backend.global.auth.jwt.AuthenticatedMemberProvider;
+import com.yachaerang.backend.global.auth.jwt.MemberPrincipalCache;
 import com.yachaerang.backend.infrastructure.s3.service.S3FileService;
 import org.junit.jupiter.api.*;
 import org.mockito.InjectMocks;
@@ -46,6 +47,9 @@ class MemberServiceTest {
     @Mock
     BCryptPasswordEncoder bCryptPasswordEncoder;
 
+    @Mock
+    MemberPrincipalCache memberPrincipalCache;
+
     @InjectMocks
     MemberService memberService;
 
@@ -141,6 +145,7 @@ class MemberServiceTest {
         verify(authenticatedMemberProvider, times(1)).getCurrentMemberId();
         verify(memberMapper, times(1)).updateProfile(1L, "test2", "test2");
         verify(memberMapper, times(1)).findById(1L);
+        verify(memberPrincipalCache, times(1)).evictByMemberId(1L);
     }
 
     @Test
@@ -260,6 +265,7 @@ class MemberServiceTest {
         verify(memberMapper, times(1)).findImageUrl(memberId);
         verify(s3FileService, times(1)).upload(eq(file), anyString());
         verify(memberMapper, times(1)).updateProfileImage("https://s3.new/image.png", memberId);
+        verify(memberPrincipalCache, times(1)).evictByMemberId(memberId);
 
         // commit 이전
         verify(s3FileService, never()).deleteByUrl(anyString());
@@ -323,6 +329,7 @@ class MemberServiceTest {
                 .build();
 
         Member testMember = Member.builder()
+                .memberCode("MEMBER-UUID-12345")
                 .email("test@example.com")
                 .password(encodedOldPassword)
                 .build();
@@ -340,6 +347,7 @@ class MemberServiceTest {
         then(bCryptPasswordEncoder).should().matches(oldPassword, encodedOldPassword);
         then(bCryptPasswordEncoder).should().encode(newPassword);
         then(memberMapper).should().updatePassword(testMember.getEmail(), encodedNewPassword);
+        then(memberPrincipalCache).should().evict("MEMBER-UUID-12345");
     }
 
     @Test
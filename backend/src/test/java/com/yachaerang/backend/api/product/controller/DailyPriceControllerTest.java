@@ -194,11 +194,158 @@ class DailyPriceControllerTest extends RestDocsSupport {
                                 )));
     }
 
+    @Test
+    @DisplayName("[GET] /api/v1/daily-prices/{productCode} - maxPoints로 줄여서 조회")
+    void getDailyPrice_MaxPoints() throws Exception {
+        // given
+        String productCode = "PROD001";
+        LocalDate startDate = LocalDate.of(2020, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+        List<DailyPriceResponseDto.PriceRecordDto> prices = List.of(
+                DailyPriceResponseDto.PriceRecordDto.builder()
+                        .priceDate(LocalDate.of(2020, 1, 2))
+                        .price(10000L)
+                        .priceChange(0L)
+                        .priceChangeRate(BigDecimal.valueOf(0.00))
+                        .build(),
+                DailyPriceResponseDto.PriceRecordDto.builder()
+                        .priceDate(LocalDate.of(2022, 7, 1))
+                        .price(15500L)
+                        .priceChange(1200L)
+                        .priceChangeRate(BigDecimal.valueOf(8.39))
+                        .build(),
+                DailyPriceResponseDto.PriceRecordDto.builder()
+                        .priceDate(LocalDate.of(2024, 12, 30))
+                        .price(9800L)
+                        .priceChange(-50L)
+                        .priceChangeRate(BigDecimal.valueOf(-0.51))
+                        .build()
+        );
+
+        given(dailyPriceService.getDailyPrice(productCode, startDate, endDate, 300))
+                .willReturn(prices);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/daily-prices/{productCode}", productCode)
+                        .param("startDate", "2020-01-01")
+                        .param("endDate", "2024-12-31")
+                        .param("maxPoints", "300")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(3)))
+                .andDo(doc(
+                        "get-daily-prices-downsampled",
+                        requestHeaders(),
+                        pathParameters(
+                                parameterWithName("productCode").description("상품 코드")
+                        ),
+                        queryParameters(
+                                parameterWithName("startDate").description("시작 날짜"),
+                                parameterWithName("endDate").description("종료 날짜"),
+                                parameterWithName("maxPoints").description("최대 데이터 개수 (3~2000, 생략 시 전체)").optional()
+                        ),
+                        responseFields(ENVELOPE_COMMON)
+                                .and(DATA_LIST_DESCRIPTOR)
+                                .andWithPrefix("data[]",
+                                        fieldWithPath("priceDate").type(STRING).description("기록 날짜"),
+                                        fieldWithPath("price").type(NUMBER).description("가격"),
+                                        fieldWithPath("priceChange").type(NUMBER).description("전일 대비 가격 변화량"),
+                                        fieldWithPath("priceChangeRate").type(NUMBER).description("전일 대비 가격 변화율")
+                                )));
+
+        verify(dailyPriceService, never()).getDailyPrice(productCode, startDate, endDate);
+    }
+
+    @Test
+    @DisplayName("[GET] /api/v1/daily-prices/{productCode} - 열 단위 형식")
+    void getDailyPriceColumns() throws Exception {
+        // given
+        String productCode = "PROD001";
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+
+        DailyPriceResponseDto.ColumnarDto columns = DailyPriceResponseDto.ColumnarDto.builder()
+                .size(3)
+                .epochDays(new long[]{
+                        LocalDate.of(2024, 1, 10).toEpochDay(),
+                        LocalDate.of(2024, 1, 15).toEpochDay(),
+                        LocalDate.of(2024, 1, 20).toEpochDay()})
+                .prices(new long[]{10000L, 10500L, 9800L})
+                .changeBasisPoints(new int[]{0, 300, -500})
+                .priceValid(new boolean[]{true, true, true})
+                .changeValid(new boolean[]{false, true, true})
+                .build();
+
+        given(dailyPriceService.getDailyPriceColumns(productCode, startDate, endDate))
+                .willReturn(columns);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/daily-prices/{productCode}", productCode)
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-31")
+                        .accept(DailyPriceController.COLUMNAR_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(3))
+                .andExpect(jsonPath("$.data.prices[1]").value(10500))
+                .andExpect(jsonPath("$.data.changeValid[0]").value(false))
+                .andDo(doc(
+                        "get-daily-prices-columnar",
+                        requestHeaders(),
+                        pathParameters(
+                                parameterWithName("productCode").description("상품 코드")
+                        ),
+                        queryParameters(
+                                parameterWithName("startDate").description("시작 날짜"),
+                                parameterWithName("endDate").description("종료 날짜")
+                        ),
+                        responseFields(ENVELOPE_COMMON)
+                                .and(fieldWithPath("data").type(OBJECT).description("응답 데이터"))
+                                .andWithPrefix("data.",
+                                        fieldWithPath("size").type(NUMBER).description("데이터 개수"),
+                                        fieldWithPath("epochDays").type(ARRAY).description("기록 날짜 (1970-01-01 기준 일수)"),
+                                        fieldWithPath("prices").type(ARRAY).description("가격"),
+                                        fieldWithPath("changeBasisPoints").type(ARRAY).description("전일 대비 가격 변화율 (% x 100)"),
+                                        fieldWithPath("priceValid").type(ARRAY).description("가격 값 존재 여부 (false면 prices 값은 0으로 채워짐)"),
+                                        fieldWithPath("changeValid").type(ARRAY).description("변화율 값 존재 여부 (false면 changeBasisPoints 값은 0으로 채워짐)")
+                                )));
+    }
+
+    @Test
+    @DisplayName("format=columnar 파라미터로 열 단위 형식 선택")
+    void getDailyPriceColumns_FormatParam() throws Exception {
+        // given
+        String productCode = "PROD001";
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+
+        given(dailyPriceService.getDailyPriceColumns(productCode, startDate, endDate))
+                .willReturn(DailyPriceResponseDto.ColumnarDto.builder()
+                        .size(0)
+                        .epochDays(new long[0])
+                        .prices(new long[0])
+                        .changeBasisPoints(new int[0])
+                        .priceValid(new boolean[0])
+                        .changeValid(new boolean[0])
+                        .build());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/daily-prices/{productCode}", productCode)
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-01-31")
+                        .param("format", "columnar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(0))
+                .andExpect(jsonPath("$.data.epochDays").isArray());
+
+        verify(dailyPriceService, never()).getDailyPrice(productCode, startDate, endDate);
+    }
+
     @Test
     @DisplayName("[GET] /api/v1/daily-prices/rank/high-prices")
     public void getHighPrices() throws Exception {
         // given
-        given(dailyPriceService.getHighPriceRank())
+        given(dailyPriceService.getHighPriceRank(null, 9))
                 .willReturn(rankList1);
         // when & then
         mockMvc.perform(get("/api/v1/daily-prices/rank/high-prices")
@@ -208,7 +355,10 @@ class DailyPriceControllerTest extends RestDocsSupport {
                         "get-high-prices",
                         requestHeaders(),
                         pathParameters(),
-                        queryParameters(),
+                        queryParameters(
+                                parameterWithName("categoryCode").optional().description("부류 코드(100~600), 없으면 전체 순위"),
+                                parameterWithName("limit").optional().description("조회 개수(1~50), 기본값 9")
+                        ),
                         responseFields(ENVELOPE_COMMON)
                                 .and(DATA_LIST_DESCRIPTOR)
                                 .andWithPrefix("data[]",
@@ -227,17 +377,22 @@ class DailyPriceControllerTest extends RestDocsSupport {
     @DisplayName("[GET] /api/v1/daily-prices/rank/low-prices")
     public void getLowPrices() throws Exception {
         // given
-        given(dailyPriceService.getLowPriceRank())
+        given(dailyPriceService.getLowPriceRank("400", 3))
                 .willReturn(rankList2);
         // when & then
         mockMvc.perform(get("/api/v1/daily-prices/rank/low-prices")
+                        .param("categoryCode", "400")
+                        .param("limit", "3")
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andDo(doc(
                         "get-low-prices",
                         requestHeaders(),
                         pathParameters(),
-                        queryParameters(),
+                        queryParameters(
+                                parameterWithName("categoryCode").optional().description("부류 코드(100~600), 없으면 전체 순위"),
+                                parameterWithName("limit").optional().description("조회 개수(1~50), 기본값 9")
+                        ),
                         responseFields(ENVELOPE_COMMON)
                                 .and(DATA_LIST_DESCRIPTOR)
                                 .andWithPrefix("data[]",
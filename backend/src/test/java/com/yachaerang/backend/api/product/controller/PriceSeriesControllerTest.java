@@ -0,0 +1,134 @@
+package com.yachaerang.backend.api.product.controller;
+
+import com.yachaerang.backend.api.common.PeriodType;
+import com.yachaerang.backend.api.product.dto.response.PriceSeriesResponseDto;
+import com.yachaerang.backend.api.product.service.PriceSeriesService;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
+import com.yachaerang.backend.global.response.ResponseWrappingAdvice;
+import com.yachaerang.backend.global.util.RestDocsSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.FieldDescriptor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.JsonFieldType.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import({ResponseWrappingAdvice.class})
+class PriceSeriesControllerTest extends RestDocsSupport {
+
+    private final PriceSeriesService priceSeriesService = mock(PriceSeriesService.class);
+
+    @Override
+    protected Object initController() {
+        return new PriceSeriesController(priceSeriesService);
+    }
+
+    @Override
+    protected Object[] initControllerAdvices() {
+        return new Object[] { new ResponseWrappingAdvice() };
+    }
+
+    // 공통 응답 필드
+    private static final FieldDescriptor[] ENVELOPE_COMMON = new FieldDescriptor[]{
+            fieldWithPath("httpStatus").type(STRING).description("HTTP 상태 코드"),
+            fieldWithPath("success").type(BOOLEAN).description("응답 성공 여부"),
+            fieldWithPath("code").type(STRING).description("응답 코드"),
+            fieldWithPath("message").type(STRING).description("응답 메시지")
+    };
+
+    private ProductPriceRecord.Daily createRecord(String productCode, LocalDate priceDate, Long price) {
+        ProductPriceRecord.Daily record = new ProductPriceRecord.Daily();
+        record.setProductCode(productCode);
+        record.setPriceDate(priceDate);
+        record.setPrice(price);
+        record.setPriceChange(100L);
+        record.setPriceChangeRate(BigDecimal.valueOf(1.50));
+        return record;
+    }
+
+    @Test
+    @DisplayName("[GET] /api/v1/price-series")
+    void getPriceSeries() throws Exception {
+        // given
+        List<String> productCodes = List.of("KM-411-01-04", "KM-411-01-05");
+        LocalDate startDate = LocalDate.of(2025, 11, 1);
+        LocalDate endDate = LocalDate.of(2025, 11, 2);
+
+        List<PriceSeriesResponseDto.SeriesDto> series = List.of(
+                PriceSeriesResponseDto.SeriesDto.builder()
+                        .productCode("KM-411-01-04")
+                        .periodType(PeriodType.DAILY)
+                        .prices(List.of(
+                                createRecord("KM-411-01-04", startDate, 45000L),
+                                createRecord("KM-411-01-04", endDate, 45100L)))
+                        .build(),
+                PriceSeriesResponseDto.SeriesDto.builder()
+                        .productCode("KM-411-01-05")
+                        .periodType(PeriodType.DAILY)
+                        .prices(List.of(createRecord("KM-411-01-05", startDate, 38000L)))
+                        .build()
+        );
+
+        given(priceSeriesService.getPriceSeries(productCodes, PeriodType.DAILY, startDate, endDate))
+                .willReturn(series);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/price-series")
+                        .param("productCodes", "KM-411-01-04", "KM-411-01-05")
+                        .param("periodType", "DAILY")
+                        .param("startDate", "2025-11-01")
+                        .param("endDate", "2025-11-02")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].prices", hasSize(2)))
+                .andExpect(jsonPath("$.data[1].productCode", is("KM-411-01-05")))
+                .andDo(doc(
+                        "get-price-series",
+                        requestHeaders(),
+                        pathParameters(),
+                        queryParameters(
+                                parameterWithName("productCodes").description("상품 코드 목록 (최대 30개)"),
+                                parameterWithName("periodType").description("기간 단위 (DAILY, WEEKLY, MONTHLY, YEARLY)"),
+                                parameterWithName("startDate").description("시작 날짜 (월별은 연월, 연도별은 연도만 사용)"),
+                                parameterWithName("endDate").description("종료 날짜 (월별은 연월, 연도별은 연도만 사용)")
+                        ),
+                        responseFields(ENVELOPE_COMMON)
+                                .and(fieldWithPath("data").type(ARRAY).description("상품별 가격 목록"))
+                                .andWithPrefix("data[]",
+                                        fieldWithPath("productCode").type(STRING).description("상품 코드"),
+                                        fieldWithPath("periodType").type(STRING).description("기간 단위"),
+                                        fieldWithPath("prices").type(ARRAY).description("기간 단위별 가격 목록 (기간별 단일 상품 조회 응답과 동일)"),
+                                        fieldWithPath("prices[].priceDate").type(STRING).description("기록 날짜"),
+                                        fieldWithPath("prices[].price").type(NUMBER).description("가격"),
+                                        fieldWithPath("prices[].priceChange").type(NUMBER).description("전일 대비 가격 변화량"),
+                                        fieldWithPath("prices[].priceChangeRate").type(NUMBER).description("전일 대비 가격 변화율")
+                                )));
+    }
+
+    @Test
+    @DisplayName("productCodes 누락 시 400 에러")
+    void getPriceSeries_MissingProductCodes() throws Exception {
+        mockMvc.perform(get("/api/v1/price-series")
+                        .param("periodType", "DAILY")
+                        .param("startDate", "2025-11-01")
+                        .param("endDate", "2025-11-02"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,57 @@
+package com.yachaerang.backend.api.product.event;
+
+import com.yachaerang.backend.api.common.PeriodType;
+import com.yachaerang.backend.api.product.service.DailyPriceRankCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceCacheEvictionListenerTest {
+
+    @Mock
+    DailyPriceRankCache dailyPriceRankCache;
+
+    @InjectMocks
+    PriceCacheEvictionListener priceCacheEvictionListener;
+
+    private PriceUpdatedEvent createEvent(PeriodType periodType) {
+        return PriceUpdatedEvent.builder()
+                .periodType(periodType)
+                .startDate(LocalDate.of(2025, 11, 1))
+                .endDate(LocalDate.of(2025, 11, 30))
+                .productCodes(List.of())
+                .build();
+    }
+
+    @Test
+    @DisplayName("일별 가격 갱신 시 순위 스냅샷 갱신")
+    void 일별가격갱신시_순위스냅샷_갱신() {
+        // given
+        PriceUpdatedEvent event = createEvent(PeriodType.DAILY);
+
+        // when
+        priceCacheEvictionListener.onPriceUpdated(event);
+
+        // then
+        verify(dailyPriceRankCache).refreshIfAffected(event);
+    }
+
+    @Test
+    @DisplayName("월별 가격 갱신은 일별 순위 스냅샷에 영향 없음")
+    void 월별가격갱신은_순위스냅샷_영향없음() {
+        // when
+        priceCacheEvictionListener.onPriceUpdated(createEvent(PeriodType.MONTHLY));
+
+        // then
+        verifyNoInteractions(dailyPriceRankCache);
+    }
+}
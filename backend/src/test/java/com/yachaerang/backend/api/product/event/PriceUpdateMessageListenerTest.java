@@ -0,0 +1,77 @@
+package com.yachaerang.backend.api.product.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yachaerang.backend.api.common.PeriodType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceUpdateMessageListenerTest {
+
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
+
+    PriceUpdateMessageListener priceUpdateMessageListener;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.registerModule(new JavaTimeModule());
+        priceUpdateMessageListener = new PriceUpdateMessageListener(objectMapper, applicationEventPublisher);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                "yachaerang:price-updated".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("batch 메시지를 가격 갱신 이벤트로 발행")
+    void batch메시지를_가격갱신이벤트로_발행() {
+        // given
+        String body = """
+                {"periodType":"DAILY","startDate":"2025-11-01","endDate":"2025-11-01",
+                 "productCodes":["KM-411-01-04"],"jobName":"dailyPriceJob","jobExecutionId":3}
+                """;
+
+        // when
+        priceUpdateMessageListener.onMessage(message(body), null);
+
+        // then
+        ArgumentCaptor<PriceUpdatedEvent> captor = ArgumentCaptor.forClass(PriceUpdatedEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        PriceUpdatedEvent event = captor.getValue();
+        assertThat(event.getPeriodType()).isEqualTo(PeriodType.DAILY);
+        assertThat(event.getStartDate()).isEqualTo(LocalDate.of(2025, 11, 1));
+        assertThat(event.getProductCodes()).containsExactly("KM-411-01-04");
+    }
+
+    @Test
+    @DisplayName("잘못된 메시지는 무시")
+    void 잘못된메시지는_무시() {
+        // when
+        priceUpdateMessageListener.onMessage(message("not-json"), null);
+        priceUpdateMessageListener.onMessage(message("{\"periodType\":\"DAILY\"}"), null);
+
+        // then
+        verify(applicationEventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,99 @@
+package com.yachaerang.backend.api.product.repository;
+
+import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyPriceDownsamplerTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2020, 1, 1);
+
+    @Test
+    @DisplayName("결과는 maxPoints개 이하이고 첫 행과 마지막 행을 포함")
+    void 최대개수_이하_첫행_마지막행_포함() {
+        // given
+        LocalDate endDate = START_DATE.plusDays(1799);
+        DailyPriceDownsampler downsampler = new DailyPriceDownsampler(START_DATE, endDate, 300);
+
+        // when
+        feed(downsampler, 1800, day -> 10000L + (day % 7) * 100L);
+        List<DailyPriceResponseDto.PriceRecordDto> result = downsampler.getResult();
+
+        // then
+        assertThat(result).hasSizeLessThanOrEqualTo(300);
+        assertThat(result.get(0).getPriceDate()).isEqualTo(START_DATE);
+        assertThat(result.get(result.size() - 1).getPriceDate()).isEqualTo(endDate);
+        for (int i = 1; i < result.size(); i++) {
+            assertThat(result.get(i).getPriceDate()).isAfter(result.get(i - 1).getPriceDate());
+        }
+    }
+
+    @Test
+    @DisplayName("튀는 가격은 줄인 결과에도 남음")
+    void 급등_가격_유지() {
+        // given
+        LocalDate endDate = START_DATE.plusDays(999);
+        DailyPriceDownsampler downsampler = new DailyPriceDownsampler(START_DATE, endDate, 50);
+
+        // when
+        feed(downsampler, 1000, day -> day == 517 ? 99999L : 10000L);
+        List<DailyPriceResponseDto.PriceRecordDto> result = downsampler.getResult();
+
+        // then
+        assertThat(result)
+                .extracting(DailyPriceResponseDto.PriceRecordDto::getPrice)
+                .contains(99999L);
+    }
+
+    @Test
+    @DisplayName("빈 버킷이 있어도 행이 있는 버킷마다 1개씩 선택")
+    void 빠진날짜_처리() {
+        // given
+        LocalDate endDate = START_DATE.plusDays(99);
+        DailyPriceDownsampler downsampler = new DailyPriceDownsampler(START_DATE, endDate, 10);
+        DefaultResultContext<DailyPriceResponseDto.PriceRecordDto> context = new DefaultResultContext<>();
+
+        // when
+        for (int day : new int[]{0, 20, 50, 99}) {
+            context.nextResultObject(record(START_DATE.plusDays(day), 1000L + day));
+            downsampler.handleResult(context);
+        }
+        List<DailyPriceResponseDto.PriceRecordDto> result = downsampler.getResult();
+
+        // then
+        assertThat(result)
+                .extracting(DailyPriceResponseDto.PriceRecordDto::getPriceDate)
+                .containsExactly(START_DATE, START_DATE.plusDays(20),
+                        START_DATE.plusDays(50), START_DATE.plusDays(99));
+    }
+
+    @Test
+    @DisplayName("조회 결과가 없으면 빈 목록")
+    void 조회결과_없음() {
+        DailyPriceDownsampler downsampler = new DailyPriceDownsampler(START_DATE, START_DATE.plusDays(999), 10);
+
+        assertThat(downsampler.getResult()).isEmpty();
+    }
+
+    private void feed(DailyPriceDownsampler downsampler, int days, IntToLongFunction price) {
+        DefaultResultContext<DailyPriceResponseDto.PriceRecordDto> context = new DefaultResultContext<>();
+        for (int day = 0; day < days; day++) {
+            context.nextResultObject(record(START_DATE.plusDays(day), price.applyAsLong(day)));
+            downsampler.handleResult(context);
+        }
+    }
+
+    private DailyPriceResponseDto.PriceRecordDto record(LocalDate priceDate, Long price) {
+        return DailyPriceResponseDto.PriceRecordDto.builder()
+                .priceDate(priceDate)
+                .price(price)
+                .build();
+    }
+}
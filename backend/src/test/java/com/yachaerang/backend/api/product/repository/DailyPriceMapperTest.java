@@ -1,6 +1,9 @@
 package com.yachaerang.backend.api.product.repository;
 
 import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
+import com.yachaerang.backend.api.product.vo.DailyPriceRankSnapshot;
+import com.yachaerang.backend.api.product.vo.ProductPriceRank;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
 import com.yachaerang.backend.global.config.MyBatisConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -199,61 +202,121 @@ class DailyPriceMapperTest {
     @Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void 특정날짜의_가격_오름차순_성공() {
         // when
-        List<DailyPriceResponseDto.RankDto> result = dailyPriceMapper.getPricesAscending(
-                LocalDate.of(2025, 11, 1)
-        );
+        LocalDate targetDate = LocalDate.of(2025, 11, 1);
+        List<DailyPriceResponseDto.RankDto> result =
+                DailyPriceRankSnapshot.of(targetDate, dailyPriceMapper.getPriceRanks(targetDate)).getLowPrices(null, 9);
 
         // then
         assertThat(result).isNotEmpty();
         assertThat(result).hasSize(9);
 
-        // 오름차순 정렬 검증
+        // 오름차순 정렬 검증, 가격이 0인 상품은 제외
         for (int i = 0; i < result.size() - 1; i++) {
             assertThat(result.get(i).getPrice())
                     .isLessThanOrEqualTo(result.get(i + 1).getPrice());
         }
+        assertThat(result).allSatisfy(rank -> assertThat(rank.getPrice()).isNotZero());
     }
 
     @Test
-    @DisplayName("가장 저렴한 상품이 첫 번째")
+    @DisplayName("Descending과 Ascending의 첫 번째 항목은 서로 다르다")
     @Sql(scripts = {"/sql/product-test-data.sql", "/sql/daily-price-test-data.sql"}, executionPhase =  Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     @Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
-    void 가장_저렴한_상품이_첫번재() {
+    void shouldHaveDifferentFirstItems() {
         // when
-        List<DailyPriceResponseDto.RankDto> result = dailyPriceMapper.getPricesAscending(LocalDate.of(2025,11,01));
+        LocalDate targetDate = LocalDate.of(2025, 11, 1);
+        DailyPriceRankSnapshot snapshot = DailyPriceRankSnapshot.of(targetDate, dailyPriceMapper.getPriceRanks(targetDate));
+        List<DailyPriceResponseDto.RankDto> descending = snapshot.getHighPrices(null, 9);
+        List<DailyPriceResponseDto.RankDto> ascending = snapshot.getLowPrices(null, 9);
 
         // then
-        assertThat(result).isNotEmpty();
+        assertThat(descending.get(0).getProductCode() + descending.get(0).getUnit())
+                .isNotEqualTo(ascending.get(0).getProductCode() + ascending.get(0).getUnit());
     }
 
     @Test
+    @DisplayName("특정 날짜의 전체 상품 가격과 품목 코드 조회")
     @Sql(scripts = {"/sql/product-test-data.sql", "/sql/daily-price-test-data.sql"}, executionPhase =  Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     @Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
-    @DisplayName("결과가 9개로 제한된다")
-    void shouldLimitResultsToEight() {
+    void 특정날짜의_전체상품가격_조회() {
+        // given
+        LocalDate targetDate = LocalDate.of(2025, 11, 1);
+
         // when
-        List<DailyPriceResponseDto.RankDto> result = dailyPriceMapper.getPricesAscending(LocalDate.of(2025,11,01));
+        List<ProductPriceRank> result = dailyPriceMapper.getPriceRanks(targetDate);
 
         // then
-        assertThat(result).hasSize(9);
+        assertThat(result).hasSizeGreaterThanOrEqualTo(9);
+        assertThat(result).allSatisfy(rank -> {
+            assertThat(rank.getProductCode()).isNotNull();
+            assertThat(rank.getItemCode()).isNotNull();
+            assertThat(rank.getProductCode()).contains(rank.getItemCode());
+        });
 
-        List<String> itemNames = result.stream()
-                .map(DailyPriceResponseDto.RankDto::getProductName)
-                .toList();
-        assertThat(itemNames).hasSize(9);
+        // 스냅샷의 내림차순 순위는 가격 순서를 따른다
+        List<DailyPriceResponseDto.RankDto> snapshot =
+                DailyPriceRankSnapshot.of(targetDate, result).getHighPrices(null, 9);
+        assertThat(snapshot).hasSize(9);
+        for (int i = 0; i < snapshot.size() - 1; i++) {
+            assertThat(snapshot.get(i).getPrice())
+                    .isGreaterThanOrEqualTo(snapshot.get(i + 1).getPrice());
+        }
     }
+
     @Test
-    @DisplayName("Descending과 Ascending의 첫 번째 항목은 서로 다르다")
+    @DisplayName("데이터가 없는 날짜는 빈 결과")
+    void 데이터가없는날짜_빈결과() {
+        // when
+        List<ProductPriceRank> result = dailyPriceMapper.getPriceRanks(LocalDate.of(2099, 1, 1));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 상품의 기간 내 가격을 한 번에 조회")
+    @Sql(scripts = {"/sql/product-test-data.sql", "/sql/daily-price-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void 여러상품의_기간내가격_한번에_조회() {
+        // when
+        List<ProductPriceRecord.Daily> result = dailyPriceMapper.getPriceDurations(
+                List.of("KM-411-01-04", "KM-411-01-05", "NON_EXISTENT"),
+                LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 30));
+
+        // then
+        assertThat(result).hasSize(4);
+        assertThat(result).extracting(ProductPriceRecord.Daily::getProductCode)
+                .containsExactly("KM-411-01-04", "KM-411-01-04", "KM-411-01-05", "KM-411-01-05");
+        assertThat(result.get(0).getPriceDate()).isBefore(result.get(1).getPriceDate());
+        assertThat(result).allSatisfy(record -> assertThat(record.getPrice()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("기간 내 가격을 ResultHandler로 열 단위 배열에 담기")
     @Sql(scripts = {"/sql/product-test-data.sql", "/sql/daily-price-test-data.sql"}, executionPhase =  Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     @Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
-    void shouldHaveDifferentFirstItems() {
+    void 기간내가격_열단위배열_조회() {
+        // given
+        String productCode = "KM-411-01-04";
+        LocalDate startDate = LocalDate.of(2025, 10, 1);
+        LocalDate endDate = LocalDate.of(2025, 12, 31);
+        DailyPriceColumnsHandler handler = new DailyPriceColumnsHandler(startDate, endDate);
+
         // when
-        LocalDate targetDate = LocalDate.of(2025, 11, 1);
-        List<DailyPriceResponseDto.RankDto> descending = dailyPriceMapper.getPricesDescending(targetDate);
-        List<DailyPriceResponseDto.RankDto> ascending = dailyPriceMapper.getPricesAscending(targetDate);
+        dailyPriceMapper.getPriceDurationColumns(productCode, startDate, endDate, handler);
+        DailyPriceResponseDto.ColumnarDto columns = handler.toColumnar();
+        List<DailyPriceResponseDto.PriceRecordDto> records =
+                dailyPriceMapper.getPriceDuration(productCode, startDate, endDate);
 
         // then
-        assertThat(descending.get(0).getProductCode() + descending.get(0).getUnit())
-                .isNotEqualTo(ascending.get(0).getProductCode() + ascending.get(0).getUnit());
+        assertThat(columns.getSize()).isEqualTo(records.size());
+        assertThat(columns.getEpochDays()).hasSize(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(columns.getEpochDays()[i]).isEqualTo(records.get(i).getPriceDate().toEpochDay());
+            assertThat(columns.getPriceValid()[i]).isEqualTo(records.get(i).getPrice() != null);
+            if (columns.getPriceValid()[i]) {
+                assertThat(columns.getPrices()[i]).isEqualTo(records.get(i).getPrice());
+            }
+        }
     }
-}
\ No newline at end of file
+}
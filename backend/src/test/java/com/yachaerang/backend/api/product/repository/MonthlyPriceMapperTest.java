@@ -1,6 +1,7 @@
 package com.yachaerang.backend.api.product.repository;
 
 import com.yachaerang.backend.api.product.dto.response.MonthlyPriceResponseDto;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
 import com.yachaerang.backend.global.config.MyBatisConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -212,4 +213,21 @@ class MonthlyPriceMapperTest {
             assertThat(currentValue).isLessThan(nextValue);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 상품의 기간 내 월별 가격을 한 번에 조회")
+    @Sql(scripts = {"/sql/product-test-data.sql", "/sql/monthly-price-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void 여러상품의_기간내_월별가격_한번에_조회() {
+        // when
+        List<ProductPriceRecord.Monthly> result = monthlyPriceMapper.getPriceDurations(
+                List.of("KM-411-01-04", "KM-411-01-05"), 2025, 9, 2025, 11);
+
+        // then
+        assertThat(result).hasSize(6);
+        assertThat(result).extracting(ProductPriceRecord.Monthly::getPriceMonth)
+                .containsExactly(9, 10, 11, 9, 10, 11);
+        assertThat(result.get(0).getProductCode()).isEqualTo("KM-411-01-04");
+        assertThat(result.get(3).getProductCode()).isEqualTo("KM-411-01-05");
+    }
+}
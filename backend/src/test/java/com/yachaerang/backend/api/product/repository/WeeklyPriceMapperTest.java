@@ -1,6 +1,7 @@
 package com.yachaerang.backend.api.product.repository;
 
 import com.yachaerang.backend.api.product.dto.response.WeeklyPriceResponseDto;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
 import com.yachaerang.backend.global.config.MyBatisConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -105,4 +106,22 @@ class WeeklyPriceMapperTest {
         assertThat(dto.getMaxPrice()).isEqualTo(47500);
         assertThat(dto.getAvgPrice()).isEqualTo(46200);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 상품의 기간 내 주차별 가격을 한 번에 조회")
+    @Sql(scripts = {"/sql/product-test-data.sql", "/sql/weekly-price-test-data.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "/sql/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void 여러상품의_기간내_주차별가격_한번에_조회() {
+        // when
+        List<ProductPriceRecord.Weekly> result = weeklyPriceMapper.getPriceDurations(
+                List.of("KM-411-01-04", "KM-411-01-05"),
+                LocalDate.of(2025, 11, 10), LocalDate.of(2025, 11, 30));
+
+        // then
+        assertThat(result).hasSize(6);
+        assertThat(result.get(0).getProductCode()).isEqualTo("KM-411-01-04");
+        assertThat(result.get(0).getStartDate()).isEqualTo(LocalDate.of(2025, 11, 10));
+        assertThat(result.get(5).getProductCode()).isEqualTo("KM-411-01-05");
+        assertThat(result.get(5).getEndDate()).isEqualTo(LocalDate.of(2025, 11, 30));
+    }
+}
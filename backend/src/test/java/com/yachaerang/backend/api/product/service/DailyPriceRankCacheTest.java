@@ -0,0 +1,166 @@
+package com.yachaerang.backend.api.product.service;
+
+import com.yachaerang.backend.api.common.PeriodType;
+import com.yachaerang.backend.api.product.event.PriceUpdatedEvent;
+import com.yachaerang.backend.api.product.repository.DailyPriceMapper;
+import com.yachaerang.backend.api.product.vo.DailyPriceRankSnapshot;
+import com.yachaerang.backend.api.product.vo.ProductPriceRank;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailyPriceRankCacheTest {
+
+    @Mock
+    DailyPriceMapper dailyPriceMapper;
+
+    @InjectMocks
+    DailyPriceRankCache dailyPriceRankCache;
+
+    private static final LocalDate PRICE_DATE = LocalDate.of(2025, 11, 1);
+
+    private List<ProductPriceRank> createRanks() {
+        return List.of(
+                ProductPriceRank.builder().productCode("KM-411-01-04").itemCode("411").price(50000L).build(),
+                ProductPriceRank.builder().productCode("KM-211-01-04").itemCode("211").price(3000L).build()
+        );
+    }
+
+    @Test
+    @DisplayName("같은 날짜는 한 번만 조회")
+    void 같은날짜는_한번만_조회() {
+        // given
+        given(dailyPriceMapper.getPriceRanks(PRICE_DATE)).willReturn(createRanks());
+
+        // when
+        DailyPriceRankSnapshot first = dailyPriceRankCache.get(PRICE_DATE);
+        DailyPriceRankSnapshot second = dailyPriceRankCache.get(PRICE_DATE);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getHighPrices(null, 9)).hasSize(2);
+        verify(dailyPriceMapper, times(1)).getPriceRanks(PRICE_DATE);
+    }
+
+    @Test
+    @DisplayName("날짜가 바뀌면 다시 조회")
+    void 날짜가_바뀌면_다시조회() {
+        // given
+        LocalDate nextDate = PRICE_DATE.plusDays(1);
+        given(dailyPriceMapper.getPriceRanks(PRICE_DATE)).willReturn(createRanks());
+        given(dailyPriceMapper.getPriceRanks(nextDate)).willReturn(createRanks());
+
+        // when
+        dailyPriceRankCache.get(PRICE_DATE);
+        DailyPriceRankSnapshot result = dailyPriceRankCache.get(nextDate);
+
+        // then
+        assertThat(result.getPriceDate()).isEqualTo(nextDate);
+        verify(dailyPriceMapper).getPriceRanks(PRICE_DATE);
+        verify(dailyPriceMapper).getPriceRanks(nextDate);
+    }
+
+    @Test
+    @DisplayName("빈 결과는 보관하지 않음")
+    void 빈결과는_보관하지않음() {
+        // given
+        given(dailyPriceMapper.getPriceRanks(PRICE_DATE))
+                .willReturn(Collections.emptyList())
+                .willReturn(createRanks());
+
+        // when
+        DailyPriceRankSnapshot empty = dailyPriceRankCache.get(PRICE_DATE);
+        DailyPriceRankSnapshot loaded = dailyPriceRankCache.get(PRICE_DATE);
+
+        // then
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(loaded.isEmpty()).isFalse();
+        verify(dailyPriceMapper, times(2)).getPriceRanks(PRICE_DATE);
+    }
+
+    @Test
+    @DisplayName("refresh 호출 시 다시 조회")
+    void refresh_호출시_다시조회() {
+        // given
+        given(dailyPriceMapper.getPriceRanks(PRICE_DATE)).willReturn(createRanks());
+        DailyPriceRankSnapshot before = dailyPriceRankCache.get(PRICE_DATE);
+
+        // when
+        DailyPriceRankSnapshot refreshed = dailyPriceRankCache.refresh(PRICE_DATE);
+
+        // then
+        assertThat(refreshed).isNotSameAs(before);
+        assertThat(dailyPriceRankCache.get(PRICE_DATE)).isSameAs(refreshed);
+        verify(dailyPriceMapper, times(2)).getPriceRanks(PRICE_DATE);
+    }
+
+    @Test
+    @DisplayName("evict 호출 후 다시 조회")
+    void evict_호출후_다시조회() {
+        // given
+        given(dailyPriceMapper.getPriceRanks(PRICE_DATE)).willReturn(createRanks());
+        dailyPriceRankCache.get(PRICE_DATE);
+
+        // when
+        dailyPriceRankCache.evict();
+        dailyPriceRankCache.get(PRICE_DATE);
+
+        // then
+        verify(dailyPriceMapper, times(2)).getPriceRanks(PRICE_DATE);
+    }
+
+    @Test
+    @DisplayName("갱신 기간에 포함된 스냅샷만 다시 조회")
+    void 갱신기간에_포함된_스냅샷만_다시조회() {
+        // given
+        given(dailyPriceMapper.getPriceRanks(PRICE_DATE)).willReturn(createRanks());
+        dailyPriceRankCache.get(PRICE_DATE);
+
+        PriceUpdatedEvent other = PriceUpdatedEvent.builder()
+                .periodType(PeriodType.DAILY)
+                .startDate(PRICE_DATE.minusDays(7))
+                .endDate(PRICE_DATE.minusDays(1))
+                .build();
+        PriceUpdatedEvent affected = PriceUpdatedEvent.builder()
+                .periodType(PeriodType.DAILY)
+                .startDate(PRICE_DATE)
+                .endDate(PRICE_DATE)
+                .build();
+
+        // when
+        dailyPriceRankCache.refreshIfAffected(other);
+        dailyPriceRankCache.refreshIfAffected(affected);
+
+        // then
+        verify(dailyPriceMapper, times(2)).getPriceRanks(PRICE_DATE);
+    }
+
+    @Test
+    @DisplayName("보관 중인 스냅샷이 없으면 갱신하지 않음")
+    void 스냅샷이_없으면_갱신하지않음() {
+        // given
+        PriceUpdatedEvent event = PriceUpdatedEvent.builder()
+                .periodType(PeriodType.DAILY)
+                .startDate(PRICE_DATE)
+                .endDate(PRICE_DATE)
+                .build();
+
+        // when
+        dailyPriceRankCache.refreshIfAffected(event);
+
+        // then
+        verifyNoInteractions(dailyPriceMapper);
+    }
+}
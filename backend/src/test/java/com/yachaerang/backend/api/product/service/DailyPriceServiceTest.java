@@ -2,6 +2,12 @@ package com.yachaerang.backend.api.product.service;
 
 import com.yachaerang.backend.api.product.dto.response.DailyPriceResponseDto;
 import com.yachaerang.backend.api.product.repository.DailyPriceMapper;
+import com.yachaerang.backend.api.product.vo.DailyPriceRankSnapshot;
+import com.yachaerang.backend.api.product.vo.ProductPriceRank;
+import com.yachaerang.backend.global.exception.GeneralException;
+import com.yachaerang.backend.global.response.ErrorCode;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -12,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -20,7 +27,9 @@ import java.util.List;
 import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.*;
 
 @Transactional
@@ -30,6 +39,9 @@ class DailyPriceServiceTest {
     @Mock
     DailyPriceMapper dailyPriceMapper;
 
+    @Mock
+    DailyPriceRankCache dailyPriceRankCache;
+
     @InjectMocks
     DailyPriceService dailyPriceService;
 
@@ -39,44 +51,26 @@ class DailyPriceServiceTest {
     );
     private static final LocalDate YESTERDAY = LocalDate.of(2024, 1, 14);
 
-    private List<DailyPriceResponseDto.RankDto> createDescendingMockData() {
-        return List.of(
-                DailyPriceResponseDto.RankDto.builder()
-                        .productCode("WATERMELON")
-                        .productName("수박")
-                        .itemName("과일")
-                        .kindName("수박")
-                        .unit("개")
-                        .price(20000L)
-                        .build(),
-                DailyPriceResponseDto.RankDto.builder()
-                        .productCode("GRAPE")
-                        .productName("포도")
-                        .itemName("과일")
-                        .kindName("포도")
-                        .unit("kg")
-                        .price(15000L)
-                        .build());
-    }
-
-    private List<DailyPriceResponseDto.RankDto> createAscendingMockData() {
-        return List.of(
-                DailyPriceResponseDto.RankDto.builder()
-                        .productCode("ORANGE")
-                        .productName("감귤")
-                        .itemName("과일")
-                        .kindName("감귤")
-                        .unit("kg")
-                        .price(2000L)
-                        .build(),
-                DailyPriceResponseDto.RankDto.builder()
-                        .productCode("PLUM")
-                        .productName("자두")
-                        .itemName("과일")
-                        .kindName("자두")
-                        .unit("kg")
-                        .price(4000L)
-                        .build());
+    private DailyPriceRankSnapshot createMockSnapshot() {
+        return DailyPriceRankSnapshot.of(YESTERDAY, List.of(
+                createRank("WATERMELON", "수박", "226", 20000L),
+                createRank("GRAPE", "포도", "414", 15000L),
+                createRank("ORANGE", "감귤", "415", 2000L),
+                createRank("PLUM", "자두", "419", 4000L),
+                createRank("CABBAGE", "배추", "211", 0L)
+        ));
+    }
+
+    private ProductPriceRank createRank(String productCode, String productName, String itemCode, Long price) {
+        return ProductPriceRank.builder()
+                .productCode(productCode)
+                .productName(productName)
+                .itemCode(itemCode)
+                .itemName(productName)
+                .kindName(productName)
+                .unit("kg")
+                .price(price)
+                .build();
     }
 
     @Test
@@ -198,18 +192,20 @@ class DailyPriceServiceTest {
             mockedZonedDateTime.when(() -> ZonedDateTime.now(any(ZoneId.class)))
                     .thenReturn(FIXED_NOW);
 
-            given(dailyPriceMapper.getPricesDescending(YESTERDAY))
-                    .willReturn(createDescendingMockData());
+            given(dailyPriceRankCache.get(YESTERDAY))
+                    .willReturn(createMockSnapshot());
 
             // when
-            List<DailyPriceResponseDto.RankDto> result = dailyPriceService.getHighPriceRank();
+            List<DailyPriceResponseDto.RankDto> result = dailyPriceService.getHighPriceRank(null, 2);
 
             // then
             assertThat(result).hasSize(2);
             assertThat(result.get(0).getProductName()).isEqualTo("수박");
             assertThat(result.get(0).getPrice()).isEqualTo(20000);
+            assertThat(result.get(1).getProductName()).isEqualTo("포도");
 
-            verify(dailyPriceMapper).getPricesDescending(YESTERDAY);
+            verify(dailyPriceRankCache).get(YESTERDAY);
+            verifyNoInteractions(dailyPriceMapper);
         }
     }
 
@@ -220,11 +216,11 @@ class DailyPriceServiceTest {
             // given
             mockedZonedDateTime.when(() -> ZonedDateTime.now(SEOUL_ZONE)).thenReturn(FIXED_NOW);
 
-            given(dailyPriceMapper.getPricesDescending(YESTERDAY))
-                    .willReturn(Collections.emptyList());
+            given(dailyPriceRankCache.get(YESTERDAY))
+                    .willReturn(DailyPriceRankSnapshot.of(YESTERDAY, Collections.emptyList()));
 
             // when
-            List<DailyPriceResponseDto.RankDto> result = dailyPriceService.getHighPriceRank();
+            List<DailyPriceResponseDto.RankDto> result = dailyPriceService.getHighPriceRank(null, 9);
 
             // then
             assertThat(result).isEmpty();
@@ -238,18 +234,179 @@ class DailyPriceServiceTest {
             // given
             mockedZonedDateTime.when(() -> ZonedDateTime.now(SEOUL_ZONE)).thenReturn(FIXED_NOW);
 
-            given(dailyPriceMapper.getPricesAscending(YESTERDAY))
-                    .willReturn(createAscendingMockData());
+            given(dailyPriceRankCache.get(YESTERDAY))
+                    .willReturn(createMockSnapshot());
 
             // when
-            List<DailyPriceResponseDto.RankDto> result = dailyPriceService.getLowPriceRank();
+            List<DailyPriceResponseDto.RankDto> result = dailyPriceService.getLowPriceRank(null, 9);
 
             // then
-            assertThat(result).hasSize(2);
+            // 가격이 0인 배추는 제외
+            assertThat(result).hasSize(4);
             assertThat(result.get(0).getProductName()).isEqualTo("감귤");
             assertThat(result.get(0).getPrice()).isEqualTo(2000L);
+            assertThat(result.get(1).getProductName()).isEqualTo("자두");
 
-            verify(dailyPriceMapper).getPricesAscending(YESTERDAY);
+            verify(dailyPriceRankCache).get(YESTERDAY);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("부류 코드로 가격 순위 필터링")
+    void 부류코드로_가격순위_필터링() {
+        try (MockedStatic<ZonedDateTime> mockedZonedDateTime = mockStatic(ZonedDateTime.class, CALLS_REAL_METHODS)) {
+            // given
+            mockedZonedDateTime.when(() -> ZonedDateTime.now(SEOUL_ZONE)).thenReturn(FIXED_NOW);
+
+            given(dailyPriceRankCache.get(YESTERDAY))
+                    .willReturn(createMockSnapshot());
+
+            // when
+            List<DailyPriceResponseDto.RankDto> high = dailyPriceService.getHighPriceRank("400", 9);
+            List<DailyPriceResponseDto.RankDto> low = dailyPriceService.getLowPriceRank("200", 9);
+
+            // then
+            assertThat(high).extracting(DailyPriceResponseDto.RankDto::getProductCode)
+                    .containsExactly("GRAPE", "PLUM", "ORANGE");
+            assertThat(low).extracting(DailyPriceResponseDto.RankDto::getProductCode)
+                    .containsExactly("WATERMELON");
+        }
+    }
+
+    @Test
+    @DisplayName("순위 조회 개수가 범위를 벗어나면 예외")
+    void 순위조회개수_범위초과_예외() {
+        assertThatThrownBy(() -> dailyPriceService.getHighPriceRank(null, 0))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_RANK_LIMIT);
+        assertThatThrownBy(() -> dailyPriceService.getLowPriceRank(null, 51))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_RANK_LIMIT);
+
+        verifyNoInteractions(dailyPriceRankCache);
+    }
+
+    @Test
+    @DisplayName("기간 내 가격을 열 단위 배열로 반환")
+    @SuppressWarnings("unchecked")
+    void 기간내가격_열단위배열_반환() {
+        // given
+        String productCode = "PROD001";
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 3);
+
+        willAnswer(invocation -> {
+            ResultHandler<DailyPriceResponseDto.PriceRecordDto> handler = invocation.getArgument(3);
+            DefaultResultContext<DailyPriceResponseDto.PriceRecordDto> context = new DefaultResultContext<>();
+            context.nextResultObject(DailyPriceResponseDto.PriceRecordDto.builder()
+                    .priceDate(startDate).price(10000L).build());
+            handler.handleResult(context);
+            context.nextResultObject(DailyPriceResponseDto.PriceRecordDto.builder()
+                    .priceDate(startDate.plusDays(1)).priceChangeRate(BigDecimal.ZERO).build());
+            handler.handleResult(context);
+            context.nextResultObject(DailyPriceResponseDto.PriceRecordDto.builder()
+                    .priceDate(endDate).price(10325L).priceChangeRate(new BigDecimal("3.25")).build());
+            handler.handleResult(context);
+            return null;
+        }).given(dailyPriceMapper).getPriceDurationColumns(eq(productCode), eq(startDate), eq(endDate), any(ResultHandler.class));
+
+        // when
+        DailyPriceResponseDto.ColumnarDto result =
+                dailyPriceService.getDailyPriceColumns(productCode, startDate, endDate);
+
+        // then
+        assertThat(result.getSize()).isEqualTo(3);
+        assertThat(result.getEpochDays()).containsExactly(
+                startDate.toEpochDay(), startDate.plusDays(1).toEpochDay(), endDate.toEpochDay());
+        assertThat(result.getPrices()).containsExactly(10000L, 0L, 10325L);
+        assertThat(result.getChangeBasisPoints()).containsExactly(0, 0, 325);
+        // NULL과 실제 0은 validity 배열로 구분
+        assertThat(result.getPriceValid()).containsExactly(true, false, true);
+        assertThat(result.getChangeValid()).containsExactly(false, true, true);
+    }
+
+    @Test
+    @DisplayName("열 단위 조회 시 종료일이 시작일보다 빠르면 예외")
+    void 열단위조회_종료일이_시작일보다_빠르면_예외() {
+        assertThatThrownBy(() -> dailyPriceService.getDailyPriceColumns(
+                "PROD001", LocalDate.of(2024, 1, 31), LocalDate.of(2024, 1, 1)))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.WRONG_REQUEST_DATE);
+
+        verifyNoInteractions(dailyPriceMapper);
+    }
+
+    @Test
+    @DisplayName("기간의 일수가 maxPoints 이하면 줄이지 않고 그대로 조회")
+    void 짧은기간_다운샘플링_생략() {
+        // given
+        String productCode = "PROD001";
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        List<DailyPriceResponseDto.PriceRecordDto> prices = List.of(
+                DailyPriceResponseDto.PriceRecordDto.builder().priceDate(startDate).price(10000L).build());
+
+        given(dailyPriceMapper.getPriceDuration(productCode, startDate, endDate)).willReturn(prices);
+
+        // when
+        List<DailyPriceResponseDto.PriceRecordDto> result =
+                dailyPriceService.getDailyPrice(productCode, startDate, endDate, 100);
+
+        // then
+        assertThat(result).isSameAs(prices);
+        verify(dailyPriceMapper, never()).getPriceDurationColumns(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("긴 기간은 maxPoints개 이하로 줄여서 반환")
+    @SuppressWarnings("unchecked")
+    void 긴기간_다운샘플링() {
+        // given
+        String productCode = "PROD001";
+        LocalDate startDate = LocalDate.of(2020, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+        willAnswer(invocation -> {
+            ResultHandler<DailyPriceResponseDto.PriceRecordDto> handler = invocation.getArgument(3);
+            DefaultResultContext<DailyPriceResponseDto.PriceRecordDto> context = new DefaultResultContext<>();
+            for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+                context.nextResultObject(DailyPriceResponseDto.PriceRecordDto.builder()
+                        .priceDate(date).price(10000L + date.getDayOfYear()).build());
+                handler.handleResult(context);
+            }
+            return null;
+        }).given(dailyPriceMapper).getPriceDurationColumns(eq(productCode), eq(startDate), eq(endDate), any(ResultHandler.class));
+
+        // when
+        List<DailyPriceResponseDto.PriceRecordDto> result =
+                dailyPriceService.getDailyPrice(productCode, startDate, endDate, 300);
+
+        // then
+        assertThat(result).hasSizeLessThanOrEqualTo(300);
+        assertThat(result.get(0).getPriceDate()).isEqualTo(startDate);
+        assertThat(result.get(result.size() - 1).getPriceDate()).isEqualTo(endDate);
+        verify(dailyPriceMapper, never()).getPriceDuration(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("maxPoints가 범위를 벗어나면 예외")
+    void maxPoints_범위초과_예외() {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 12, 31);
+
+        assertThatThrownBy(() -> dailyPriceService.getDailyPrice("PROD001", startDate, endDate, 2))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_MAX_POINTS);
+
+        assertThatThrownBy(() -> dailyPriceService.getDailyPrice("PROD001", startDate, endDate, 2001))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_MAX_POINTS);
+
+        verifyNoInteractions(dailyPriceMapper);
+    }
+}
@@ -0,0 +1,166 @@
+package com.yachaerang.backend.api.product.service;
+
+import com.yachaerang.backend.api.common.PeriodType;
+import com.yachaerang.backend.api.product.dto.response.PriceSeriesResponseDto;
+import com.yachaerang.backend.api.product.repository.DailyPriceMapper;
+import com.yachaerang.backend.api.product.repository.MonthlyPriceMapper;
+import com.yachaerang.backend.api.product.repository.WeeklyPriceMapper;
+import com.yachaerang.backend.api.product.repository.YearlyPriceMapper;
+import com.yachaerang.backend.api.product.vo.ProductPriceRecord;
+import com.yachaerang.backend.global.exception.GeneralException;
+import com.yachaerang.backend.global.response.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceSeriesServiceTest {
+
+    @Mock
+    DailyPriceMapper dailyPriceMapper;
+
+    @Mock
+    WeeklyPriceMapper weeklyPriceMapper;
+
+    @Mock
+    MonthlyPriceMapper monthlyPriceMapper;
+
+    @Mock
+    YearlyPriceMapper yearlyPriceMapper;
+
+    @InjectMocks
+    PriceSeriesService priceSeriesService;
+
+    private static final LocalDate START_DATE = LocalDate.of(2025, 9, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2025, 11, 30);
+
+    private ProductPriceRecord.Daily daily(String productCode, LocalDate priceDate) {
+        ProductPriceRecord.Daily record = new ProductPriceRecord.Daily();
+        record.setProductCode(productCode);
+        record.setPriceDate(priceDate);
+        record.setPrice(1000L);
+        return record;
+    }
+
+    @Test
+    @DisplayName("일별 가격을 한 번의 조회로 상품별로 묶어서 반환")
+    void 일별가격_상품별로_묶어서_반환() {
+        // given
+        List<String> productCodes = List.of("B", "A", "C");
+        given(dailyPriceMapper.getPriceDurations(productCodes, START_DATE, END_DATE))
+                .willReturn(List.of(
+                        daily("A", START_DATE),
+                        daily("A", START_DATE.plusDays(1)),
+                        daily("B", START_DATE)));
+
+        // when
+        List<PriceSeriesResponseDto.SeriesDto> result =
+                priceSeriesService.getPriceSeries(productCodes, PeriodType.DAILY, START_DATE, END_DATE);
+
+        // then
+        // 요청 순서 유지, 데이터가 없는 상품은 빈 목록
+        assertThat(result).extracting(PriceSeriesResponseDto.SeriesDto::getProductCode)
+                .containsExactly("B", "A", "C");
+        assertThat(result.get(0).getPrices()).hasSize(1);
+        assertThat(result.get(1).getPrices()).hasSize(2);
+        assertThat(result.get(2).getPrices()).isEmpty();
+        assertThat(result).allMatch(series -> series.getPeriodType() == PeriodType.DAILY);
+
+        verify(dailyPriceMapper, times(1)).getPriceDurations(productCodes, START_DATE, END_DATE);
+        verifyNoInteractions(weeklyPriceMapper, monthlyPriceMapper, yearlyPriceMapper);
+    }
+
+    @Test
+    @DisplayName("중복과 공백 상품 코드는 제거")
+    void 중복과_공백_상품코드_제거() {
+        // given
+        given(dailyPriceMapper.getPriceDurations(List.of("A", "B"), START_DATE, END_DATE))
+                .willReturn(Collections.emptyList());
+
+        // when
+        List<PriceSeriesResponseDto.SeriesDto> result = priceSeriesService.getPriceSeries(
+                List.of("A", " B ", "A", " "), PeriodType.DAILY, START_DATE, END_DATE);
+
+        // then
+        assertThat(result).extracting(PriceSeriesResponseDto.SeriesDto::getProductCode)
+                .containsExactly("A", "B");
+    }
+
+    @Test
+    @DisplayName("월별 조회는 날짜의 연월로 조회")
+    void 월별조회는_연월로_조회() {
+        // given
+        List<String> productCodes = List.of("A");
+        ProductPriceRecord.Monthly record = new ProductPriceRecord.Monthly();
+        record.setProductCode("A");
+        record.setPriceYear(2025);
+        record.setPriceMonth(9);
+        given(monthlyPriceMapper.getPriceDurations(productCodes, 2025, 9, 2025, 11))
+                .willReturn(List.of(record));
+
+        // when
+        List<PriceSeriesResponseDto.SeriesDto> result =
+                priceSeriesService.getPriceSeries(productCodes, PeriodType.MONTHLY, START_DATE, END_DATE);
+
+        // then
+        assertThat(result.get(0).getPrices()).hasSize(1);
+        assertThat(result.get(0).getPrices().get(0)).isSameAs(record);
+    }
+
+    @Test
+    @DisplayName("연도별 조회는 날짜의 연도로 조회")
+    void 연도별조회는_연도로_조회() {
+        // given
+        List<String> productCodes = List.of("A");
+        given(yearlyPriceMapper.getPriceDurations(productCodes, 2024, 2025))
+                .willReturn(Collections.emptyList());
+
+        // when
+        priceSeriesService.getPriceSeries(productCodes, PeriodType.YEARLY, LocalDate.of(2024, 1, 1), END_DATE);
+
+        // then
+        verify(yearlyPriceMapper).getPriceDurations(productCodes, 2024, 2025);
+    }
+
+    @Test
+    @DisplayName("상품 코드가 없거나 너무 많으면 예외")
+    void 상품코드_개수_예외() {
+        List<String> tooMany = IntStream.rangeClosed(1, 31).mapToObj(i -> "P" + i).toList();
+
+        assertThatThrownBy(() -> priceSeriesService.getPriceSeries(
+                List.of(), PeriodType.DAILY, START_DATE, END_DATE))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_SERIES_PRODUCTS);
+        assertThatThrownBy(() -> priceSeriesService.getPriceSeries(
+                tooMany, PeriodType.DAILY, START_DATE, END_DATE))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_SERIES_PRODUCTS);
+    }
+
+    @Test
+    @DisplayName("종료일이 시작일보다 빠르면 예외")
+    void 종료일이_시작일보다_빠르면_예외() {
+        assertThatThrownBy(() -> priceSeriesService.getPriceSeries(
+                List.of("A"), PeriodType.WEEKLY, END_DATE, START_DATE))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.WRONG_REQUEST_DATE);
+
+        verifyNoInteractions(weeklyPriceMapper);
+    }
+}
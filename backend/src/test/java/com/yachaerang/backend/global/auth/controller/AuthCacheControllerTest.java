@@ -0,0 +1,86 @@
+package com.yachaerang.backend.global.auth.controller;
+
+import com.yachaerang.backend.global.auth.jwt.VerifiedTokenCache;
+import com.yachaerang.backend.global.response.ResponseWrappingAdvice;
+import com.yachaerang.backend.global.util.RestDocsSupport;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.FieldDescriptor;
+
+import java.util.Date;
+
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.JsonFieldType.*;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(ResponseWrappingAdvice.class)
+class AuthCacheControllerTest extends RestDocsSupport {
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+    @Override
+    protected Object initController() {
+        return new AuthCacheController(verifiedTokenCache);
+    }
+
+    @Override
+    protected Object[] initControllerAdvices() {
+        return new Object[] {new ResponseWrappingAdvice()};
+    }
+
+    // 공통 응답 필드
+    private static final FieldDescriptor[] ENVELOPE_COMMON = new FieldDescriptor[]{
+            fieldWithPath("httpStatus").type(STRING).description("HTTP 상태 코드"),
+            fieldWithPath("success").type(BOOLEAN).description("응답 성공 여부"),
+            fieldWithPath("code").type(STRING).description("응답 코드"),
+            fieldWithPath("message").type(STRING).description("응답 메시지"),
+            fieldWithPath("data").type(OBJECT).description("응답 데이터")
+    };
+
+    @Test
+    @DisplayName("[GET] /api/v1/admin/caches/verified-tokens - 검증된 토큰 캐시 상태 조회 API")
+    void 검증된토큰_캐시_상태_조회() throws Exception {
+        // given : 적중 1, 미적중 1
+        verifiedTokenCache.put("access-token", Jwts.claims()
+                .setSubject("MEMBER-UUID-12345")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000)));
+        verifiedTokenCache.get("access-token");
+        verifiedTokenCache.get("other-token");
+
+        // when & then
+        mockMvc.perform(get("/api/v1/admin/caches/verified-tokens")
+                        .header("Authorization", "access-token")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(1))
+                .andExpect(jsonPath("$.data.hitCount").value(1))
+                .andExpect(jsonPath("$.data.missCount").value(1))
+                .andExpect(jsonPath("$.data.evictionCount").value(0))
+                .andExpect(jsonPath("$.data.hitRate").value(0.5))
+                .andDo(doc(
+                        "verified-token-cache-stats",
+                        requestHeaders(
+                                headerWithName("Authorization").description("관리자 Access Token")
+                        ),
+                        pathParameters(),
+                        queryParameters(),
+                        responseFields(ENVELOPE_COMMON)
+                                .andWithPrefix("data.",
+                                        fieldWithPath("size").type(NUMBER).description("보관 중인 토큰 수"),
+                                        fieldWithPath("hitCount").type(NUMBER).description("적중 횟수"),
+                                        fieldWithPath("missCount").type(NUMBER).description("미적중 횟수"),
+                                        fieldWithPath("evictionCount").type(NUMBER).description("최대 개수 초과로 제거된 횟수"),
+                                        fieldWithPath("hitRate").type(NUMBER).description("적중률 (0 ~ 1)")
+                                )));
+    }
+}
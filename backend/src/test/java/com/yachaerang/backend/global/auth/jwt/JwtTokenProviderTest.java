@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -24,6 +25,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class JwtTokenProviderTest {
@@ -32,6 +37,10 @@ class JwtTokenProviderTest {
 
     @Mock private MemberMapper memberMapper;
 
+    @Spy private MemberPrincipalCache memberPrincipalCache = new MemberPrincipalCache();
+
+    @Spy private VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
     private static final String SECRET_KEY = "testSecretKeyForJwtTokenTestingPurpose123456";
     private static final long ACCESS_TOKEN_EXPIRATION = 3600L; // 1시간
     private static final long REFRESH_TOKEN_EXPIRATION = 604800L; // 7일
@@ -240,4 +249,72 @@ class JwtTokenProviderTest {
                 .containsExactly("ROLE_ADMIN");
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("한 번의 파싱으로 토큰 검증과 Authentication 생성")
+    void authenticate_성공() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(member);
+        given(memberMapper.findByMemberCode(member.getMemberCode())).willReturn(member);
+
+        // when
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+
+        // then
+        assertThat(authentication.getPrincipal()).isEqualTo(member);
+        assertThat(authentication.getAuthorities())
+                .extracting("authority")
+                .containsExactly(member.getRole().name());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰으로 authenticate 시 TOKEN_EXPIRED 예외")
+    void authenticate_ExpiredToken_예외() {
+        // given
+        String expiredToken = Jwts.builder()
+                .setSubject(member.getMemberCode())
+                .setIssuedAt(new Date(System.currentTimeMillis() - 7200000))
+                .setExpiration(new Date(System.currentTimeMillis() - 3600000))
+                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .compact();
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.authenticate(expiredToken))
+                .isInstanceOf(GeneralException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.TOKEN_EXPIRED);
+    }
+
+    @Test
+    @DisplayName("같은 회원의 반복 인증은 회원 조회를 한 번만 수행")
+    void authenticate_회원조회_재사용() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(member);
+        given(memberMapper.findByMemberCode(member.getMemberCode())).willReturn(member);
+
+        // when
+        jwtTokenProvider.authenticate(token);
+        jwtTokenProvider.authenticate(token);
+        Authentication authentication = jwtTokenProvider.authenticate(token);
+
+        // then
+        assertThat(authentication.getPrincipal()).isEqualTo(member);
+        verify(memberMapper, times(1)).findByMemberCode(member.getMemberCode());
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 다시 파싱하지 않고 보관된 Claims 사용")
+    void 검증된토큰_재사용() throws Exception {
+        // given
+        String token = jwtTokenProvider.generateAccessToken(member);
+
+        // when
+        String first = jwtTokenProvider.getMemberCodeFromToken(token);
+        String second = jwtTokenProvider.getMemberCodeFromToken(token);
+
+        // then
+        assertThat(first).isEqualTo(member.getMemberCode());
+        assertThat(second).isEqualTo(member.getMemberCode());
+        verify(verifiedTokenCache, times(1)).put(eq(token), any());
+        assertThat(verifiedTokenCache.hitRate()).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,95 @@
+package com.yachaerang.backend.global.auth.jwt;
+
+import com.yachaerang.backend.api.member.entity.Member;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberPrincipalCacheTest {
+
+    private final MemberPrincipalCache memberPrincipalCache = new MemberPrincipalCache();
+
+    private final Member member = Member.builder()
+            .id(1L)
+            .memberCode("MEMBER-UUID-12345")
+            .email("test@example.com")
+            .build();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 회원은 다시 조회하지 않음")
+    void 조회결과_재사용() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        Function<String, Member> loader = memberCode -> {
+            loadCount.incrementAndGet();
+            return member;
+        };
+
+        // when
+        Member first = memberPrincipalCache.get(member.getMemberCode(), loader);
+        Member second = memberPrincipalCache.get(member.getMemberCode(), loader);
+
+        // then
+        assertThat(first).isSameAs(member);
+        assertThat(second).isSameAs(member);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 보관하지 않음")
+    void 존재하지않는_회원_미보관() {
+        // when
+        Member result = memberPrincipalCache.get("UNKNOWN", memberCode -> null);
+
+        // then
+        assertThat(result).isNull();
+        assertThat(memberPrincipalCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("memberCode와 회원 ID로 제거")
+    void 회원_제거() {
+        // given
+        memberPrincipalCache.get(member.getMemberCode(), memberCode -> member);
+
+        // when & then
+        memberPrincipalCache.evictByMemberId(1L);
+        assertThat(memberPrincipalCache.size()).isZero();
+
+        memberPrincipalCache.get(member.getMemberCode(), memberCode -> member);
+        memberPrincipalCache.evict(member.getMemberCode());
+        assertThat(memberPrincipalCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서의 제거는 커밋 이후에 반영")
+    void 트랜잭션_커밋이후_제거() {
+        // given
+        memberPrincipalCache.get(member.getMemberCode(), memberCode -> member);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        memberPrincipalCache.evict(member.getMemberCode());
+
+        // then
+        assertThat(memberPrincipalCache.size()).isEqualTo(1);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        assertThat(memberPrincipalCache.size()).isZero();
+    }
+}
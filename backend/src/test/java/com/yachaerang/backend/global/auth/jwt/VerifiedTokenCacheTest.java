@@ -0,0 +1,119 @@
+package com.yachaerang.backend.global.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+    @Test
+    @DisplayName("보관한 Claims를 토큰으로 다시 조회")
+    void 보관한_Claims_조회() {
+        // given
+        Claims claims = claimsExpiringIn(60_000);
+        verifiedTokenCache.put("access-token", claims);
+
+        // when
+        Claims result = verifiedTokenCache.get("access-token");
+
+        // then
+        assertThat(result).isSameAs(claims);
+        assertThat(verifiedTokenCache.get("other-token")).isNull();
+        assertThat(verifiedTokenCache.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("exp가 지난 토큰은 보관 중이어도 사용하지 않음")
+    void 만료된_토큰_미사용() {
+        // given
+        verifiedTokenCache.put("expired-token", claimsExpiringIn(-1_000));
+
+        // when & then
+        assertThat(verifiedTokenCache.get("expired-token")).isNull();
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("exp가 없는 토큰은 보관하지 않음")
+    void exp없는_토큰_미보관() {
+        // when
+        verifiedTokenCache.put("no-exp-token", Jwts.claims().setSubject("MEMBER-UUID-12345"));
+
+        // then
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 오래 사용하지 않은 토큰부터 제거")
+    void 최대개수_초과시_LRU_제거() {
+        // given
+        Claims claims = claimsExpiringIn(60_000);
+        verifiedTokenCache.put("token-0", claims);
+        for (int i = 1; i < 1024; i++) {
+            verifiedTokenCache.put("token-" + i, claims);
+        }
+        // token-0을 최근 사용으로 갱신
+        verifiedTokenCache.get("token-0");
+
+        // when
+        verifiedTokenCache.put("token-1024", claims);
+
+        // then
+        assertThat(verifiedTokenCache.size()).isLessThan(1024);
+        assertThat(verifiedTokenCache.get("token-0")).isNotNull();
+        assertThat(verifiedTokenCache.get("token-1")).isNull();
+        assertThat(verifiedTokenCache.get("token-1024")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회/보관해도 최대 개수를 유지")
+    void 동시_조회_보관() throws Exception {
+        // given
+        Claims claims = claimsExpiringIn(60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        try {
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread * 1_000;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        verifiedTokenCache.put("token-" + (offset + i), claims);
+                        verifiedTokenCache.get("token-" + (offset + i / 2));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // 정리 중에 다른 스레드가 보관한 항목은 다음 보관 때 정리됨
+        verifiedTokenCache.put("token-last", claims);
+
+        // then
+        assertThat(verifiedTokenCache.size()).isLessThanOrEqualTo(1024);
+        assertThat(verifiedTokenCache.hitRate()).isGreaterThan(0.0);
+    }
+
+    private Claims claimsExpiringIn(long millis) {
+        return Jwts.claims()
+                .setSubject("MEMBER-UUID-12345")
+                .setExpiration(new Date(System.currentTimeMillis() + millis));
+    }
+}
@@ -7,6 +7,7 @@ import com.yachaerang.backend.api.member.repository.MemberMapper;
 import com.yachaerang.backend.global.auth.dto.request.TokenRequestDto;
 import com.yachaerang.backend.global.auth.dto.response.TokenResponseDto;
 import com.yachaerang.backend.global.auth.jwt.JwtTokenProvider;
+import com.yachaerang.backend.global.auth.jwt.MemberPrincipalCache;
 import com.yachaerang.backend.global.auth.util.RefreshTokenUtil;
 import com.yachaerang.backend.global.auth.util.UuidGenerator;
 import com.yachaerang.backend.global.exception.GeneralException;
@@ -43,6 +44,8 @@ class AuthServiceTest {
     private BCryptPasswordEncoder bCryptPasswordEncoder;
     @Mock
     private RefreshTokenUtil refreshTokenUtil;
+    @Mock
+    private MemberPrincipalCache memberPrincipalCache;
 
     @InjectMocks
     private AuthService authService;
@@ -193,6 +196,7 @@ class AuthServiceTest {
         // then
         verify(jwtTokenProvider, times(1)).getMemberCodeFromToken(accessToken);
         verify(refreshTokenUtil, times(1)).deleteRefreshToken(memberCode);
+        verify(memberPrincipalCache, times(1)).evict(memberCode);
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.yachaerang.backend.infrastructure.smtp.service;
 
 import com.yachaerang.backend.api.member.entity.Member;
 import com.yachaerang.backend.api.member.repository.MemberMapper;
+import com.yachaerang.backend.global.auth.jwt.MemberPrincipalCache;
 import com.yachaerang.backend.global.exception.GeneralException;
 import com.yachaerang.backend.global.response.ErrorCode;
 import com.yachaerang.backend.infrastructure.smtp.dto.request.MailRequestDto;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -25,6 +27,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 
@@ -37,6 +40,7 @@ class MailServiceTest {
     @Mock private StringRedisTemplate stringRedisTemplate;
     @Mock private MimeMessage mimeMessage;
     @Mock private ValueOperations<String, String> valueOperations;
+    @Mock private MemberPrincipalCache memberPrincipalCache;
 
     @InjectMocks private MailService mailService;
 
@@ -210,6 +214,54 @@ class MailServiceTest {
         then(javaMailSender).should().send(any(MimeMessage.class));
     }
 
+    @Test
+    @DisplayName("임시 비밀번호 발급 시 캐시된 인증 정보 제거")
+    void 임시_비밀번호_발급시_인증_캐시_제거() {
+        // given
+        MailRequestDto.VerificationRequest request = MailRequestDto.VerificationRequest
+                .builder()
+                .mail(TEST_EMAIL)
+                .code(TEST_CODE)
+                .build();
+        Member member = Member.builder()
+                .name(TEST_USERNAME)
+                .nickname(TEST_USERNAME)
+                .email(TEST_EMAIL)
+                .memberCode("test")
+                .build();
+        given(valueOperations.get(VERIFICATION_CODE_PREFIX + TEST_EMAIL)).willReturn(TEST_CODE);
+        given(memberMapper.findByEmail(TEST_EMAIL)).willReturn(member);
+        given(bCryptPasswordEncoder.encode(anyString())).willReturn("encodedPassword");
+        given(javaMailSender.createMimeMessage()).willReturn(mimeMessage);
+
+        // when
+        mailService.verifyAndSendTempPassword(request);
+
+        // then
+        InOrder inOrder = inOrder(memberMapper, memberPrincipalCache);
+        inOrder.verify(memberMapper).updatePassword(TEST_EMAIL, "encodedPassword");
+        inOrder.verify(memberPrincipalCache).evict("test");
+    }
+
+    @Test
+    @DisplayName("인증코드가 틀리면 캐시된 인증 정보를 건드리지 않음")
+    void 인증코드_불일치시_인증_캐시_유지() {
+        // given
+        MailRequestDto.VerificationRequest request = MailRequestDto.VerificationRequest
+                .builder()
+                .mail(TEST_EMAIL)
+                .code("999999")
+                .build();
+        given(valueOperations.get(VERIFICATION_CODE_PREFIX + TEST_EMAIL)).willReturn(TEST_CODE);
+
+        // when
+        assertThatThrownBy(() -> mailService.verifyAndSendTempPassword(request))
+                .isInstanceOf(GeneralException.class);
+
+        // then
+        then(memberPrincipalCache).should(never()).evict(anyString());
+    }
+
     @Test
     @DisplayName("인증코드 불일치 시 예외")
     void 인증코드_불일치시_예외() {
@@ -202,6 +202,11 @@ CREATE TABLE IF NOT EXISTS weekly_price (
     price_count INT DEFAULT 0,
     price_change BIGINT NULL,
     price_change_rate DECIMAL(6, 2) NULL,
+    price_sum DECIMAL(20, 0) NULL,
+    first_price_date DATE NULL,
+    start_price DECIMAL(15, 0) NULL,
+    last_price_date DATE NULL,
+    end_price DECIMAL(15, 0) NULL,
 
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -229,6 +234,11 @@ CREATE TABLE IF NOT EXISTS monthly_price (
     price_count INT DEFAULT 0,
     price_change BIGINT NULL,
     price_change_rate DECIMAL(6, 2) NULL,
+    price_sum DECIMAL(20, 0) NULL,
+    first_price_date DATE NULL,
+    start_price DECIMAL(15, 0) NULL,
+    last_price_date DATE NULL,
+    end_price DECIMAL(15, 0) NULL,
 
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
@@ -256,6 +266,9 @@ CREATE TABLE IF NOT EXISTS yearly_price (
     price_count INT DEFAULT 0,
     price_change BIGINT NULL,
     price_change_rate DECIMAL(6, 2) NULL,
+    price_sum DECIMAL(20, 0) NULL,
+    first_price_date DATE NULL,
+    last_price_date DATE NULL,
 
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
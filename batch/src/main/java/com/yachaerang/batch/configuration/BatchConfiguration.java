@@ -1,8 +1,27 @@
 package com.yachaerang.batch.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class BatchConfiguration {
 
+    /*
+    Partition Step을 병렬로 실행하기 위한 Executor
+    - SimpleAsyncTaskExecutor처럼 Partition마다 스레드를 만들지 않고, partition-concurrency개 스레드를 재사용
+     */
+    @Bean
+    public ThreadPoolTaskExecutor partitionTaskExecutor(
+            @Value("${batch.partition-concurrency:6}") int partitionConcurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(partitionConcurrency);
+        executor.setMaxPoolSize(partitionConcurrency);
+        executor.setThreadNamePrefix("partition-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,19 +1,62 @@
 package com.yachaerang.batch.configuration;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
-
+/*
+KAMIS 호출용 RestTemplate 설정
+- 요청마다 새 TCP 연결을 맺지 않도록 Apache HttpClient 5의 Connection Pool을 사용하고, keep-alive 연결을 재사용
+- 같은 host(route)로 열 수 있는 연결 수는 max-connections로 제한
+- gzip 응답은 HttpClient가 Accept-Encoding을 보내고 자동으로 풀어줌
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    // 이 시간 동안 쓰지 않은 연결은 정리, 재사용 전에도 이 시간이 지났으면 연결 상태 확인
+    private static final TimeValue IDLE_TIMEOUT = TimeValue.ofSeconds(30);
+
+    @Bean
+    public CloseableHttpClient kamisHttpClient(
+            @Value("${external.kamis.max-connections:10}") int maxConnections,
+            @Value("${external.kamis.connect-timeout-ms:10000}") long connectTimeoutMillis,
+            @Value("${external.kamis.read-timeout-ms:30000}") long readTimeoutMillis) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setValidateAfterInactivity(IDLE_TIMEOUT)
+                        .build())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_TIMEOUT)
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.connectTimeout(Duration.ofSeconds(10))
-                .readTimeout(Duration.ofSeconds(30))
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient kamisHttpClient) {
+        return builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(kamisHttpClient))
                 .build();
     }
 }
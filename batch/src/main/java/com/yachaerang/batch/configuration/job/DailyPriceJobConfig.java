@@ -6,27 +6,37 @@ import com.yachaerang.batch.domain.dailyPrice.reader.DailyPriceReader;
 import com.yachaerang.batch.domain.dailyPrice.writer.DailyPriceWriter;
 import com.yachaerang.batch.domain.dto.KamisPriceItem;
 import com.yachaerang.batch.domain.entity.DailyPrice;
+import com.yachaerang.batch.event.PriceUpdateTracker;
+import com.yachaerang.batch.exception.GeneralException;
 import com.yachaerang.batch.listener.JobCompletionListener;
+import com.yachaerang.batch.listener.StepPerformanceListener;
 import com.yachaerang.batch.listener.StepExecutionListener;
 import com.yachaerang.batch.repository.DailyPriceRepository;
 import com.yachaerang.batch.repository.ProductRepository;
 import com.yachaerang.batch.service.KamisApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /*
 Daily Price Job에 대한 설정
@@ -39,74 +49,129 @@ public class DailyPriceJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final JobCompletionListener jobCompletionListener;
+    private final StepPerformanceListener stepPerformanceListener;
+    private final PriceUpdateTracker priceUpdateTracker;
     private final StepExecutionListener stepExecutionListener;
 
     private final KamisApiService kamisApiService;
+    private final ThreadPoolTaskExecutor partitionTaskExecutor;
     private final ProductRepository productRepository;
     private final DailyPriceRepository dailyPriceRepository;
+    private final SqlSessionFactory dataSqlSessionFactory;
+
+    // Writer가 한 번에 DB로 보내는 upsert 개수
+    @Value("${batch.write-batch-size:100}")
+    private int writeBatchSize;
 
     private static final int CHUNK_SIZE = 500;
     private static final List<String> CATEGORY_CODES = List.of("100", "200", "300", "400", "500", "600");
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /**
-     * Job: 카테고리 100, 200, 300, 400, 500, 600 순차 실행(categoryCode)
+     * Job: 카테고리 100, 200, 300, 400, 500, 600을 Partition으로 나눠 동시 조회
      */
     @Bean
     public Job dailyPriceJob() {
         return new JobBuilder("dailyPriceJob", jobRepository)
                 .incrementer(new RunIdIncrementer())
                 .listener(jobCompletionListener)
-                .start(dailyPriceStep())
+                .start(dailyPricePartitionStep())
+                .build();
+    }
+
+    /*
+    카테고리 단위 Partition Step
+    - 카테고리마다 조회/가공/저장을 별도 스레드에서 실행하고, 동시 실행 수는 partitionTaskExecutor 크기로 제한
+     */
+    @Bean
+    public Step dailyPricePartitionStep() {
+        return new StepBuilder("dailyPricePartitionStep", jobRepository)
+                .partitioner("dailyPriceStep", dailyCategoryPartitioner(null))
+                .step(dailyPriceStep())
+                .taskExecutor(partitionTaskExecutor)
+                .gridSize(CATEGORY_CODES.size())
                 .build();
     }
 
+    /*
+    카테고리별 Partitioner
+    - Worker Step은 다른 스레드에서 실행되어 JobScope를 쓸 수 없으므로, 대상 날짜도 Partition에 담아서 전달
+     */
+    @Bean
+    @StepScope
+    public Partitioner dailyCategoryPartitioner(DailyJobParameter dailyJobParameter) {
+        String targetDate = dailyJobParameter.getTargetDate().format(FORMATTER);
+        return gridSize -> {
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            for (String categoryCode : CATEGORY_CODES) {
+                ExecutionContext context = new ExecutionContext();
+                context.putString("targetDate", targetDate);
+                context.putString("categoryCode", categoryCode);
+                partitions.put("category" + categoryCode, context);
+            }
+            log.info("카테고리 Partition 생성: targetDate={}, {} 개", targetDate, partitions.size());
+            return partitions;
+        };
+    }
+
     /**
-     * 카테고리별 Step 생성(Job의 Step)
+     * 카테고리 하나에 대한 Step(Partition의 Worker Step)
      */
-    private Step dailyPriceStep() {
+    @Bean
+    public Step dailyPriceStep() {
         return new StepBuilder("dailyPriceStep", jobRepository)
                 .listener(stepExecutionListener)
                 .<KamisPriceItem, DailyPrice>chunk(CHUNK_SIZE, platformTransactionManager)
-                .reader(dailyPriceReader(null))
-                .processor(dailyPriceProcessor(null))
+                .listener(stepPerformanceListener)
+                .reader(dailyPriceReader(null, null))
+                .processor(dailyPriceProcessor(null, null))
                 .writer(dailyPriceWriter())
                 .faultTolerant()
                 .skipLimit(10)
                 .skip(Exception.class)
+                // KAMIS 조회 실패(재시도 후 실패, 파싱 실패, offline 캐시 없음)는 카테고리를 건너뛰지 않고 Step 실패 (재실행 대상)
+                .noSkip(GeneralException.class)
                 .build();
     }
 
     /**
-     * Reader 스텝
-     * @param dailyJobParameter : jobParameters에서 얻어오기
+     * Reader 스텝 : Partition의 카테고리 하나만 조회
+     * @param targetDateStr : Partition에서 전달받은 대상 날짜
+     * @param categoryCode : Partition에서 전달받은 카테고리
      * @return
      */
     @Bean
     @StepScope
-    public DailyPriceReader dailyPriceReader(DailyJobParameter dailyJobParameter) {
+    public DailyPriceReader dailyPriceReader(
+            @Value("#{stepExecutionContext['targetDate']}") String targetDateStr,
+            @Value("#{stepExecutionContext['categoryCode']}") String categoryCode) {
 
-        LocalDate targetDate = dailyJobParameter.getTargetDate();
+        LocalDate targetDate = LocalDate.parse(targetDateStr, FORMATTER);
 
-        log.info("Reader 생성: targetDate={}", targetDate);
+        log.info("Reader 생성: targetDate={}, categoryCode={}", targetDate, categoryCode);
 
-        return new DailyPriceReader(kamisApiService, targetDate, CATEGORY_CODES);
+        return new DailyPriceReader(kamisApiService, targetDate, categoryCode);
     }
 
     /**
      * Processor Step
-     * @param dailyJobParameter : jobParameter로부터 얻음 (category는 reader에서 필터링)
+     * @param targetDateStr : Partition에서 전달받은 대상 날짜
+     * @param categoryCode : Partition에서 전달받은 카테고리 (해당 카테고리 상품만 미리 읽음)
      * @return
      */
     @Bean
     @StepScope
-    public DailyPriceProcessor dailyPriceProcessor(DailyJobParameter dailyJobParameter) {
+    public DailyPriceProcessor dailyPriceProcessor(
+            @Value("#{stepExecutionContext['targetDate']}") String targetDateStr,
+            @Value("#{stepExecutionContext['categoryCode']}") String categoryCode) {
 
-        LocalDate targetDate = dailyJobParameter.getTargetDate();
+        LocalDate targetDate = LocalDate.parse(targetDateStr, FORMATTER);
 
         return new DailyPriceProcessor(
                 productRepository,
                 dailyPriceRepository,
-                targetDate
+                targetDate,
+                categoryCode
         );
     }
 
@@ -115,7 +180,7 @@ public class DailyPriceJobConfig {
      */
     @Bean
     public DailyPriceWriter dailyPriceWriter() {
-        return new DailyPriceWriter(dailyPriceRepository);
+        return new DailyPriceWriter(priceUpdateTracker, dataSqlSessionFactory, writeBatchSize);
     }
 
     /*
@@ -125,6 +190,6 @@ public class DailyPriceJobConfig {
         if (targetDateStr == null || targetDateStr.isBlank()) {
             return LocalDate.now().minusDays(1);
         }
-        return LocalDate.parse(targetDateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        return LocalDate.parse(targetDateStr, FORMATTER);
     }
 }
@@ -5,12 +5,17 @@ import com.yachaerang.batch.domain.dailyPrice.reader.DailyPriceReader;
 import com.yachaerang.batch.domain.dailyPrice.writer.DailyPriceWriter;
 import com.yachaerang.batch.domain.dto.KamisPriceItem;
 import com.yachaerang.batch.domain.entity.DailyPrice;
+import com.yachaerang.batch.event.PriceUpdateTracker;
+import com.yachaerang.batch.exception.GeneralException;
+import com.yachaerang.batch.exception.KamisApiException;
 import com.yachaerang.batch.listener.JobCompletionListener;
+import com.yachaerang.batch.listener.StepPerformanceListener;
 import com.yachaerang.batch.repository.DailyPriceRepository;
 import com.yachaerang.batch.repository.ProductRepository;
 import com.yachaerang.batch.service.KamisApiService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.configuration.annotation.StepScope;
@@ -23,8 +28,7 @@ import org.springframework.batch.item.ExecutionContext;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
-import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
@@ -35,6 +39,8 @@ import java.util.Map;
 
 /*
 특정 기간동안의 DailyPrice 수집 Job Configuration
+- 기간을 (날짜, 카테고리) 단위 Partition으로 나눠서, 하루 안의 느린 카테고리가 다른 조회를 막지 않도록 함
+- 동시에 실행되는 Partition 수는 partitionTaskExecutor 크기, 실제 KAMIS 동시 요청 수는 KamisRequestThrottle이 응답 상태에 따라 조절
  */
 @Configuration
 @Slf4j
@@ -44,10 +50,18 @@ public class DateRangePriceJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final JobCompletionListener jobCompletionListener;
+    private final StepPerformanceListener stepPerformanceListener;
+    private final PriceUpdateTracker priceUpdateTracker;
 
     private final KamisApiService kamisApiService;
+    private final ThreadPoolTaskExecutor partitionTaskExecutor;
     private final ProductRepository productRepository;
     private final DailyPriceRepository dailyPriceRepository;
+    private final SqlSessionFactory dataSqlSessionFactory;
+
+    // Writer가 한 번에 DB로 보내는 upsert 개수
+    @Value("${batch.write-batch-size:100}")
+    private int writeBatchSize;
 
     private static final int CHUNK_SIZE = 100;
     private static final List<String> CATEGORY_CODES = List.of("100", "200", "300", "400", "500", "600");
@@ -73,13 +87,12 @@ public class DateRangePriceJobConfig {
         return new StepBuilder("dateRangePartitionStep", jobRepository)
                 .partitioner("dailyStepPartitioner", dateRangePartitioner(null, null))
                 .step(partitionedPriceStep())
-                .taskExecutor(batchTaskExecutor())
-                .gridSize(10)
+                .taskExecutor(partitionTaskExecutor)
                 .build();
     }
 
     /*
-    날짜 범위 기반의 Partitioner - 시작일 ~ 종료일 범위
+    날짜 범위 x 카테고리 Partitioner - 시작일 ~ 종료일의 날짜마다 카테고리별로 하나씩
      */
     @Bean
     @StepScope
@@ -98,13 +111,15 @@ public class DateRangePriceJobConfig {
 
             // endDate까지 반복
             while (!currentDate.isAfter(endDate)) {
-                ExecutionContext context = new ExecutionContext();
-                context.putString("targetDate", currentDate.format(FORMATTER));
-                context.putInt("partitionNumber", partitionNumber);
-                partitions.put("partition" + partitionNumber, context);
-
+                for (String categoryCode : CATEGORY_CODES) {
+                    ExecutionContext context = new ExecutionContext();
+                    context.putString("targetDate", currentDate.format(FORMATTER));
+                    context.putString("categoryCode", categoryCode);
+                    context.putInt("partitionNumber", partitionNumber);
+                    partitions.put("partition" + partitionNumber, context);
+                    partitionNumber++;
+                }
                 currentDate = currentDate.plusDays(1);
-                partitionNumber++;
             }
             log.info("Total {} 개의 Partitions 생성", partitions.size());
             return partitions;
@@ -118,14 +133,18 @@ public class DateRangePriceJobConfig {
     public Step partitionedPriceStep() {
         return new StepBuilder("partitionedPriceStep", jobRepository)
                 .<KamisPriceItem, DailyPrice>chunk(CHUNK_SIZE, platformTransactionManager)
-                .reader(partitionedPriceReader(null))
-                .processor(partitionedPriceProcessor(null))
+                .listener(stepPerformanceListener)
+                .reader(partitionedPriceReader(null, null))
+                .processor(partitionedPriceProcessor(null, null))
                 .writer(partitionedPriceWriter())
                 .faultTolerant()
                 .skipLimit(10)
                 .skip(Exception.class)
+                // KAMIS 재시도와 백오프는 KamisApiService에서 처리, 조회에 실패하면 해당 (날짜, 카테고리) Partition만 실패
+                .noSkip(GeneralException.class)
                 .retryLimit(3)
                 .retry(Exception.class)
+                .noRetry(KamisApiException.class)
                 .build();
     }
 
@@ -135,13 +154,14 @@ public class DateRangePriceJobConfig {
     @Bean
     @StepScope
     public DailyPriceReader partitionedPriceReader(
-            @Value("#{stepExecutionContext['targetDate']}") String targetDateStr) {
+            @Value("#{stepExecutionContext['targetDate']}") String targetDateStr,
+            @Value("#{stepExecutionContext['categoryCode']}") String categoryCode) {
 
         LocalDate targetDate = LocalDate.parse(targetDateStr);
 
-        log.info("PartitionedReader 생성: targetDate={}, categories={}", targetDate, CATEGORY_CODES);
+        log.info("PartitionedReader 생성: targetDate={}, categoryCode={}", targetDate, categoryCode);
 
-        return new DailyPriceReader(kamisApiService, targetDate, CATEGORY_CODES);
+        return new DailyPriceReader(kamisApiService, targetDate, categoryCode);
     }
 
     /*
@@ -150,27 +170,18 @@ public class DateRangePriceJobConfig {
     @Bean
     @StepScope
     public DailyPriceProcessor partitionedPriceProcessor(
-            @Value("#{stepExecutionContext['targetDate']}") String targetDateStr) {
+            @Value("#{stepExecutionContext['targetDate']}") String targetDateStr,
+            @Value("#{stepExecutionContext['categoryCode']}") String categoryCode) {
 
         LocalDate targetDate = LocalDate.parse(targetDateStr);
 
-        log.info("PartitionedProcessor 생성: targetDate={}", targetDate);
+        log.info("PartitionedProcessor 생성: targetDate={}, categoryCode={}", targetDate, categoryCode);
 
-        return new DailyPriceProcessor(productRepository, dailyPriceRepository, targetDate);
+        return new DailyPriceProcessor(productRepository, dailyPriceRepository, targetDate, categoryCode);
     }
 
     @Bean
     public DailyPriceWriter partitionedPriceWriter() {
-        return new DailyPriceWriter(dailyPriceRepository);
-    }
-
-    /**
-     * 병렬 처리
-     */
-    @Bean
-    public TaskExecutor batchTaskExecutor() {
-        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("batch-");
-        executor.setConcurrencyLimit(5);
-        return executor;
+        return new DailyPriceWriter(priceUpdateTracker, dataSqlSessionFactory, writeBatchSize);
     }
 }
@@ -3,9 +3,9 @@ package com.yachaerang.batch.configuration.job;
 import com.yachaerang.batch.configuration.parameter.JobPeriodParameter;
 import com.yachaerang.batch.domain.entity.MonthlyPrice;
 import com.yachaerang.batch.domain.processor.MonthlyPriceProcessor;
+import com.yachaerang.batch.event.PriceUpdateTracker;
 import com.yachaerang.batch.listener.JobCompletionListener;
 import com.yachaerang.batch.listener.StepExecutionListener;
-import com.yachaerang.batch.repository.DailyPriceRepository;
 import com.yachaerang.batch.service.MonthlyPriceAggregationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -34,10 +34,10 @@ public class MonthlyPriceJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final JobCompletionListener jobCompletionListener;
+    private final PriceUpdateTracker priceUpdateTracker;
     private final StepExecutionListener stepExecutionListener;
 
     private final MonthlyPriceAggregationService monthlyPriceAggregationService;
-    private final DailyPriceRepository dailyPriceRepository;
 
 
     private static final int CHUNK_SIZE= 100;
@@ -97,7 +97,7 @@ public class MonthlyPriceJobConfig {
     @Bean
     @StepScope
     public MonthlyPriceProcessor monthlyPriceProcessor() {
-        return new MonthlyPriceProcessor(dailyPriceRepository);
+        return new MonthlyPriceProcessor();
     }
 
     /**
@@ -111,6 +111,7 @@ public class MonthlyPriceJobConfig {
             List<MonthlyPrice> items = new ArrayList<>(chunk.getItems());
             log.info("저장할 데이터 : {} 건", items.size());
             monthlyPriceAggregationService.saveMonthlyPrices(items);
+            priceUpdateTracker.recordMonthly(items);
         };
     }
 }
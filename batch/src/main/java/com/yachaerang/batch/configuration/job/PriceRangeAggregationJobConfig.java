@@ -0,0 +1,142 @@
+package com.yachaerang.batch.configuration.job;
+
+import com.yachaerang.batch.domain.entity.MonthlyPrice;
+import com.yachaerang.batch.domain.entity.WeeklyPrice;
+import com.yachaerang.batch.domain.processor.MonthlyPriceProcessor;
+import com.yachaerang.batch.domain.processor.WeeklyPriceProcessor;
+import com.yachaerang.batch.listener.JobCompletionListener;
+import com.yachaerang.batch.listener.StepExecutionListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.batch.MyBatisCursorItemReader;
+import org.mybatis.spring.batch.builder.MyBatisCursorItemReaderBuilder;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/*
+여러 주/여러 달의 집계를 한 번의 Job 실행으로 처리하는 Job Configuration
+- 기간 전체의 daily_price를 한 번만 읽어서 주차(월)별로 묶고, Cursor로 읽으면서 Chunk 단위로 upsert
+- 주차/월마다 Job을 따로 실행하지 않으므로 메타데이터 기록과 daily_price 조회가 한 번으로 줄어듦
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class PriceRangeAggregationJobConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+    private final JobCompletionListener jobCompletionListener;
+    private final StepExecutionListener stepExecutionListener;
+
+    private final SqlSessionFactory dataSqlSessionFactory;
+
+    private static final int CHUNK_SIZE = 500;
+
+    /*
+    기간 범위 주간 집계 Job
+     */
+    @Bean
+    public Job weeklyRangePriceJob(Step weeklyRangePriceStep) {
+        return new JobBuilder("weeklyRangePriceJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(jobCompletionListener)
+                .start(weeklyRangePriceStep)
+                .build();
+    }
+
+    @Bean
+    public Step weeklyRangePriceStep(ItemWriter<WeeklyPrice> weeklyPriceWriter) {
+        return new StepBuilder("weeklyRangePriceStep", jobRepository)
+                .<WeeklyPrice, WeeklyPrice>chunk(CHUNK_SIZE, platformTransactionManager)
+                .listener(stepExecutionListener)
+                .reader(weeklyRangePriceReader(null, null))
+                .processor(new WeeklyPriceProcessor())
+                .writer(weeklyPriceWriter)
+                .faultTolerant()
+                .retryLimit(3)
+                .retry(Exception.class)
+                .build();
+    }
+
+    /*
+    기간 전체를 주차별로 집계한 결과를 Cursor로 읽기
+     */
+    @Bean
+    @StepScope
+    public MyBatisCursorItemReader<WeeklyPrice> weeklyRangePriceReader(
+            @Value("#{jobParameters['startDate']}") String startDateStr,
+            @Value("#{jobParameters['endDate']}") String endDateStr) {
+
+        LocalDate startDate = LocalDate.parse(startDateStr);
+        LocalDate endDate = LocalDate.parse(endDateStr);
+
+        log.info("주간 범위 집계 Reader 생성: {} ~ {}", startDate, endDate);
+
+        return new MyBatisCursorItemReaderBuilder<WeeklyPrice>()
+                .sqlSessionFactory(dataSqlSessionFactory)
+                .queryId("com.yachaerang.batch.repository.WeeklyPriceRepository.selectWeeklyAggregatedPricesInRange")
+                .parameterValues(Map.of("startDate", startDate, "endDate", endDate))
+                .build();
+    }
+
+    /*
+    기간 범위 월간 집계 Job
+     */
+    @Bean
+    public Job monthlyRangePriceJob(Step monthlyRangePriceStep) {
+        return new JobBuilder("monthlyRangePriceJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(jobCompletionListener)
+                .start(monthlyRangePriceStep)
+                .build();
+    }
+
+    @Bean
+    public Step monthlyRangePriceStep(ItemWriter<MonthlyPrice> monthlyPriceWriter) {
+        return new StepBuilder("monthlyRangePriceStep", jobRepository)
+                .<MonthlyPrice, MonthlyPrice>chunk(CHUNK_SIZE, platformTransactionManager)
+                .listener(stepExecutionListener)
+                .reader(monthlyRangePriceReader(null, null))
+                .processor(new MonthlyPriceProcessor())
+                .writer(monthlyPriceWriter)
+                .faultTolerant()
+                .retryLimit(3)
+                .retry(Exception.class)
+                .build();
+    }
+
+    /*
+    기간 전체를 월별로 집계한 결과를 Cursor로 읽기
+     */
+    @Bean
+    @StepScope
+    public MyBatisCursorItemReader<MonthlyPrice> monthlyRangePriceReader(
+            @Value("#{jobParameters['startDate']}") String startDateStr,
+            @Value("#{jobParameters['endDate']}") String endDateStr) {
+
+        LocalDate startDate = LocalDate.parse(startDateStr);
+        LocalDate endDate = LocalDate.parse(endDateStr);
+
+        log.info("월간 범위 집계 Reader 생성: {} ~ {}", startDate, endDate);
+
+        return new MyBatisCursorItemReaderBuilder<MonthlyPrice>()
+                .sqlSessionFactory(dataSqlSessionFactory)
+                .queryId("com.yachaerang.batch.repository.MonthlyPriceRepository.selectMonthlyAggregatedPrices")
+                .parameterValues(Map.of("startDate", startDate, "endDate", endDate))
+                .build();
+    }
+}
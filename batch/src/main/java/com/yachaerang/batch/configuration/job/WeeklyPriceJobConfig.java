@@ -3,9 +3,9 @@ package com.yachaerang.batch.configuration.job;
 import com.yachaerang.batch.configuration.parameter.JobPeriodParameter;
 import com.yachaerang.batch.domain.entity.WeeklyPrice;
 import com.yachaerang.batch.domain.processor.WeeklyPriceProcessor;
+import com.yachaerang.batch.event.PriceUpdateTracker;
 import com.yachaerang.batch.listener.JobCompletionListener;
 import com.yachaerang.batch.listener.StepExecutionListener;
-import com.yachaerang.batch.repository.DailyPriceRepository;
 import com.yachaerang.batch.service.WeeklyPriceAggregationService;
 import com.yachaerang.batch.util.WeekUtils;
 import lombok.RequiredArgsConstructor;
@@ -35,10 +35,10 @@ public class WeeklyPriceJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final JobCompletionListener jobCompletionListener;
+    private final PriceUpdateTracker priceUpdateTracker;
     private final StepExecutionListener stepExecutionListener;
 
     private final WeeklyPriceAggregationService weeklyPriceAggregationService;
-    private final DailyPriceRepository dailyPriceRepository;
 
     private static final int CHUNK_SIZE= 100;
 
@@ -99,7 +99,7 @@ public class WeeklyPriceJobConfig {
     @StepScope
     public WeeklyPriceProcessor weeklyPriceProcessor() {
 
-        return new WeeklyPriceProcessor(dailyPriceRepository);
+        return new WeeklyPriceProcessor();
     }
 
     /**
@@ -113,6 +113,7 @@ public class WeeklyPriceJobConfig {
             List<WeeklyPrice> items = new ArrayList<>(chunk.getItems());
             log.info("저장할 데이터 : {} 건", items.size());
             weeklyPriceAggregationService.saveWeeklyPrices(items);
+            priceUpdateTracker.recordWeekly(items);
         };
     }
 }
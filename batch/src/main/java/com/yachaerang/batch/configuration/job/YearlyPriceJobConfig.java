@@ -2,6 +2,7 @@ package com.yachaerang.batch.configuration.job;
 
 import com.yachaerang.batch.configuration.parameter.JobPeriodParameter;
 import com.yachaerang.batch.domain.entity.YearlyPrice;
+import com.yachaerang.batch.event.PriceUpdateTracker;
 import com.yachaerang.batch.listener.JobCompletionListener;
 import com.yachaerang.batch.listener.StepExecutionListener;
 import com.yachaerang.batch.service.YearlyPriceAggregationService;
@@ -34,6 +35,7 @@ public class YearlyPriceJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
     private final JobCompletionListener jobCompletionListener;
+    private final PriceUpdateTracker priceUpdateTracker;
     private final StepExecutionListener stepExecutionListener;
 
     private final YearlyPriceAggregationService yearlyPriceAggregationService;
@@ -89,6 +91,7 @@ public class YearlyPriceJobConfig {
 
     /**
      * Processor Step : start_price, end_price 설정해 저장 + 변화율 저장
+     * - 집계 조회에서 연초/연말 가격이 채워지므로, 비어 있는 상품만 일별 데이터에서 조회
      * @return
      */
     @Bean
@@ -103,8 +106,14 @@ public class YearlyPriceJobConfig {
             }
 
             // 연초와 연말 가격 설정
-            Long startPrice = yearlyPriceAggregationService.getStartPrice(item.getProductCode(), year);
-            Long endPrice = yearlyPriceAggregationService.getEndPrice(item.getProductCode(), year);
+            Long startPrice = item.getStartPrice();
+            Long endPrice = item.getEndPrice();
+            if (startPrice == null) {
+                startPrice = yearlyPriceAggregationService.getStartPrice(item.getProductCode(), year);
+            }
+            if (endPrice == null) {
+                endPrice = yearlyPriceAggregationService.getEndPrice(item.getProductCode(), year);
+            }
             item.setStartPrice(startPrice);
             item.setEndPrice(endPrice);
 
@@ -144,6 +153,7 @@ public class YearlyPriceJobConfig {
             List<YearlyPrice> items = new ArrayList<>(chunk.getItems());
             log.info("저장할 데이터 : {} 건", items.size());
             yearlyPriceAggregationService.saveYearlyPrices(items);
+            priceUpdateTracker.recordYearly(items);
         };
     }
 }
\ No newline at end of file
@@ -91,6 +91,7 @@ public class BatchJobController {
     }
 
     /**
+     * 특정 기간의 주간 데이터를 한 번의 Job으로 집계
      */
     @PostMapping("/weekly-price/range")
     public ResponseEntity<Map<String, Object>> runWeeklyPriceJob(
@@ -155,6 +156,33 @@ public class BatchJobController {
         }
     }
 
+    /*
+    특정 기간의 월간 집계 데이터를 한 번에 구하기
+     */
+    @PostMapping("/monthly-price/range")
+    public ResponseEntity<Map<String, Object>> runMonthlyPriceRangeJob(
+            @RequestParam("startYear") Integer startYear,
+            @RequestParam("startMonth") Integer startMonth,
+            @RequestParam("endYear") Integer endYear,
+            @RequestParam("endMonth") Integer endMonth
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            JobExecution execution = batchJobService.collectMonthly(startYear, startMonth, endYear, endMonth);
+            response.put("success", true);
+            response.put("jobId", execution.getJobId());
+            response.put("status", execution.getStatus().toString());
+            response.put("startDate", execution.getJobParameters().getString("startDate"));
+            response.put("endDate", execution.getJobParameters().getString("endDate"));
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("error", e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /*
     특정 년도의 연간 데이터 구하기
      */
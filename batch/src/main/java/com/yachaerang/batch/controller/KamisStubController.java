@@ -0,0 +1,124 @@
+package com.yachaerang.batch.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yachaerang.batch.domain.dto.KamisApiResponse;
+import com.yachaerang.batch.domain.dto.KamisPriceItem;
+import com.yachaerang.batch.service.KamisResponseCache;
+import com.yachaerang.batch.util.DateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/*
+KAMIS 일별 가격 API를 흉내내는 Stub (kamis-stub 프로필에서만 등록)
+- external.kamis.daily-price-url을 이 서버로 돌리면 실제 KAMIS 없이 Job 전체의 처리량을 측정할 수 있음
+- recorded-dir에 KamisResponseCache 형식으로 보관된 응답이 있으면 그대로 보내고, 없으면 합성 데이터를 만들어 보냄
+- latency-ms만큼 늦게 응답하고, error-rate 확률로 KAMIS처럼 HTML 에러 페이지를 보냄
+ */
+@Slf4j
+@Profile("kamis-stub")
+@RestController
+public class KamisStubController {
+
+    private final ObjectMapper objectMapper;
+    private final KamisResponseCache recordedResponses;
+    private final int itemsPerCategory;
+    private final long latencyMillis;
+    private final double errorRate;
+
+    public KamisStubController(
+            ObjectMapper objectMapper,
+            @Value("${stub.kamis.recorded-dir:}") String recordedDir,
+            @Value("${stub.kamis.items-per-category:100}") int itemsPerCategory,
+            @Value("${stub.kamis.latency-ms:200}") long latencyMillis,
+            @Value("${stub.kamis.error-rate:0.0}") double errorRate) {
+        if (itemsPerCategory < 0 || itemsPerCategory > 1_000) {
+            throw new IllegalArgumentException("items-per-category는 0 ~ 1000 이어야 합니다: " + itemsPerCategory);
+        }
+        this.objectMapper = objectMapper;
+        this.recordedResponses = recordedDir.isBlank() ? null : new KamisResponseCache(true, false, recordedDir, 0);
+        this.itemsPerCategory = itemsPerCategory;
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        log.info("KAMIS Stub 사용: recordedDir={}, items={}, latency={} ms, errorRate={}",
+                recordedDir, itemsPerCategory, latencyMillis, errorRate);
+    }
+
+    @GetMapping("/service/price/xml.do")
+    public void dailyPriceByCategoryList(
+            @RequestParam("action") String action,
+            @RequestParam("p_product_cls_code") String productClsCode,
+            @RequestParam("p_regday") String regday,
+            @RequestParam("p_item_category_code") String categoryCode,
+            HttpServletResponse response) throws IOException, InterruptedException {
+
+        if (latencyMillis > 0) {
+            Thread.sleep(latencyMillis);
+        }
+
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(MediaType.TEXT_HTML_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write("<html><body>일시적인 오류입니다. (stub)</body></html>");
+            return;
+        }
+
+        LocalDate date = DateUtils.parseApiDate(regday);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        if (recordedResponses != null) {
+            InputStream recorded = recordedResponses.open(
+                    recordedResponses.key(action, productClsCode, categoryCode, date));
+            if (recorded != null) {
+                try (recorded) {
+                    recorded.transferTo(response.getOutputStream());
+                }
+                return;
+            }
+        }
+
+        objectMapper.writeValue(response.getOutputStream(), syntheticResponse(date, categoryCode));
+    }
+
+    /*
+    카테고리마다 itemsPerCategory개의 품목, 가격은 날짜와 품목으로 정해지도록 생성 (같은 요청은 같은 응답)
+     */
+    private KamisApiResponse syntheticResponse(LocalDate date, String categoryCode) {
+        List<KamisPriceItem> items = new ArrayList<>(itemsPerCategory);
+        for (int i = 0; i < itemsPerCategory; i++) {
+            KamisPriceItem item = new KamisPriceItem();
+            item.setItemName("품목" + categoryCode + "-" + i);
+            item.setItemCode(categoryCode.charAt(0) + String.format("%02d", i / 10));
+            item.setKindName("품종" + i % 10);
+            item.setKindCode(String.format("%02d", i % 10));
+            item.setRank("상품");
+            item.setRankCode("04");
+            item.setUnit("10kg");
+            item.setDay1(DateUtils.formatForApi(date));
+            item.setDpr1(String.format("%,d", syntheticPrice(date, categoryCode, i)));
+            items.add(item);
+        }
+        return new KamisApiResponse(List.of(), new KamisApiResponse.KamisData("000", items));
+    }
+
+    private long syntheticPrice(LocalDate date, String categoryCode, int index) {
+        int hash = (date.toString() + categoryCode + index).hashCode();
+        return 1_000 + Math.floorMod(hash, 90) * 100L;
+    }
+}
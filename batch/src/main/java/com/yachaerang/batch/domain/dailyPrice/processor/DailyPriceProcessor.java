@@ -3,32 +3,92 @@ package com.yachaerang.batch.domain.dailyPrice.processor;
 import com.yachaerang.batch.domain.dto.KamisPriceItem;
 import com.yachaerang.batch.domain.entity.DailyPrice;
 import com.yachaerang.batch.domain.entity.Product;
-import com.yachaerang.batch.exception.GeneralException;
 import com.yachaerang.batch.repository.DailyPriceRepository;
 import com.yachaerang.batch.repository.ProductRepository;
 import com.yachaerang.batch.util.PriceParser;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemProcessor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /*
 Daily Price Job의 Processor
+- Step 시작 시 상품 코드와 targetDate에 이미 저장된 상품 코드를 한 번에 읽어두고, 아이템마다 조회하지 않음
+- 처음 보는 상품은 모아두었다가 Chunk를 쓰기 직전에 한 번에 저장
+- 전일 대비 계산에 쓰는 상품별 직전 가격도 Step 시작 시 한 번의 쿼리로 읽어둠
+- 미리 읽는 범위는 Partition의 카테고리 상품으로 제한 (KAMIS 품목 코드의 첫 자리가 카테고리 코드의 첫 자리와 같음)
+  범위 밖 상품이 와도 상품 저장과 가격 upsert가 중복을 허용하므로 결과는 같음
  */
 @Slf4j
-@RequiredArgsConstructor
-public class DailyPriceProcessor implements ItemProcessor<KamisPriceItem, DailyPrice> {
+public class DailyPriceProcessor implements ItemProcessor<KamisPriceItem, DailyPrice>,
+        StepExecutionListener, ItemWriteListener<DailyPrice> {
 
     private final ProductRepository productRepository;
     private final DailyPriceRepository dailyPriceRepository;
 
     private final LocalDate targetDate;
+    // Step 시작 시 미리 읽을 productCode 접두사, null이면 전체
+    private final String productCodePrefix;
 
     private static final String PREFIX = "KM-";
 
+    private final Set<String> productCodes = new HashSet<>();
+    private final Set<String> savedProductCodes = new HashSet<>();
+    // 아직 DB에 저장되지 않은 신규 상품 (productCode 기준)
+    private final Map<String, Product> pendingProducts = new LinkedHashMap<>();
+    // 상품별 targetDate 이전의 가장 최근 가격
+    private final Map<String, Long> latestPrices = new HashMap<>();
+
+    public DailyPriceProcessor(ProductRepository productRepository,
+                               DailyPriceRepository dailyPriceRepository,
+                               LocalDate targetDate,
+                               String categoryCode) {
+        this.productRepository = productRepository;
+        this.dailyPriceRepository = dailyPriceRepository;
+        this.targetDate = targetDate;
+        this.productCodePrefix = categoryCode == null || categoryCode.isEmpty()
+                ? null
+                : PREFIX + categoryCode.charAt(0);
+    }
+
+    /*
+    Step 시작 시 상품 코드와 이미 저장된 데이터 미리 읽기
+     */
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        productCodes.addAll(productCodePrefix == null
+                ? productRepository.findAllProductCodes()
+                : productRepository.findProductCodesByPrefix(productCodePrefix));
+        savedProductCodes.addAll(dailyPriceRepository.findProductCodesByPriceDate(targetDate, productCodePrefix));
+        for (DailyPrice latest : dailyPriceRepository.findLatestPricesBefore(targetDate, productCodePrefix)) {
+            latestPrices.put(latest.getProductCode(), latest.getPrice());
+        }
+        log.info("상품 {} 건, {} 기존 가격 {} 건, 직전 가격 {} 건 로드 (prefix={})",
+                productCodes.size(), targetDate, savedProductCodes.size(), latestPrices.size(), productCodePrefix);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        productCodes.clear();
+        savedProductCodes.clear();
+        pendingProducts.clear();
+        latestPrices.clear();
+        return null;
+    }
+
     @Override
     public DailyPrice process(KamisPriceItem item) {
         log.debug("Processing: {} - {} - {}", item.getItemName(), item.getKindName(), item.getRankCode());
@@ -41,10 +101,9 @@ public class DailyPriceProcessor implements ItemProcessor<KamisPriceItem, DailyP
         }
 
         // Product 조회 또는 생성
-        Product product = findOrCreateProduct(item);
-        if (dailyPriceRepository.existsByProductAndPriceDate(product, targetDate)) {
-            log.debug("이미 존재하는 데이터, 건너뜀: productCode={}, date={}",
-                    product.getProductCode(), targetDate);
+        String productCode = findOrCreateProduct(item);
+        if (savedProductCodes.contains(productCode)) {
+            log.debug("이미 존재하는 데이터, 건너뜀: productCode={}, date={}", productCode, targetDate);
             return null;
         }
 
@@ -52,7 +111,7 @@ public class DailyPriceProcessor implements ItemProcessor<KamisPriceItem, DailyP
         Long priceChange = 0L;
         BigDecimal priceChangeRate = new BigDecimal(0.00);
 
-        Long latestPrice = dailyPriceRepository.findLatestPriceByProductCode(product.getProductCode(), targetDate);
+        Long latestPrice = latestPrices.get(productCode);
         if (latestPrice != null && latestPrice > 0) {
             priceChange = todayPrice - latestPrice;
             priceChangeRate = BigDecimal.valueOf(priceChange)
@@ -61,7 +120,7 @@ public class DailyPriceProcessor implements ItemProcessor<KamisPriceItem, DailyP
         }
         // DailyPrice 생성
         return DailyPrice.builder()
-                .productCode(product.getProductCode())
+                .productCode(productCode)
                 .priceDate(targetDate)
                 .price(todayPrice)
                 .priceChange(priceChange)
@@ -70,30 +129,52 @@ public class DailyPriceProcessor implements ItemProcessor<KamisPriceItem, DailyP
     }
 
     /*
-    Product 반환
+    Chunk 쓰기 직전에 신규 상품을 한 번에 저장 (daily_price가 product를 참조하므로 먼저 저장)
+    - Data DB로 바로 커밋되며 Chunk 트랜잭션(Meta DB)에 묶이지 않음, 쓰기가 롤백되어도 상품은 남음
+    - 중복 productCode는 무시(ON DUPLICATE KEY)되므로, 쓰기에 성공한 뒤에 비우고 재시도 시 다시 저장해도 안전
      */
-    private Product findOrCreateProduct(KamisPriceItem item) {
+    @Override
+    public void beforeWrite(Chunk<? extends DailyPrice> items) {
+        if (pendingProducts.isEmpty()) {
+            return;
+        }
+        log.info("신규 상품 {} 건 일괄 등록", pendingProducts.size());
+        productRepository.saveAll(new ArrayList<>(pendingProducts.values()));
+    }
+
+    /*
+    쓰기에 성공한 데이터는 같은 Step의 다음 Chunk에서 중복 저장하지 않도록 기록
+     */
+    @Override
+    public void afterWrite(Chunk<? extends DailyPrice> items) {
+        pendingProducts.clear();
+        for (DailyPrice dailyPrice : items) {
+            savedProductCodes.add(dailyPrice.getProductCode());
+        }
+    }
+
+    /*
+    productCode 반환, 처음 보는 상품이면 저장 대기 목록에 추가
+     */
+    private String findOrCreateProduct(KamisPriceItem item) {
         String productCode = PREFIX + item.getItemCode() + "-" + item.getKindCode() + "-" + item.getRankCode();
 
-        Product existing = productRepository.findByProductCode(productCode);
-        if (existing != null) {
-            return existing;
-        } else {
-            // save to DB
-            return createNewProduct(item);
+        if (productCodes.add(productCode)) {
+            pendingProducts.put(productCode, createNewProduct(item, productCode));
         }
+        return productCode;
     }
 
     /*
-    DB에 저장
+    신규 상품 생성
      */
-    private Product createNewProduct(KamisPriceItem item) {
+    private Product createNewProduct(KamisPriceItem item, String productCode) {
         log.info("신규 상품 등록: {} - {} - {}",
                 item.getItemName(), item.getKindName(), item.getRank());
 
-        Product newProduct = Product.builder()
+        return Product.builder()
                 .name(item.getKindName() + " - " + item.getRank())
-                .productCode(PREFIX + item.getItemCode() + "-" + item.getKindCode() + "-" + item.getRankCode())
+                .productCode(productCode)
                 .itemName(item.getItemName())
                 .itemCode(item.getItemCode())
                 .kindName(item.getKindName())
@@ -102,11 +183,5 @@ public class DailyPriceProcessor implements ItemProcessor<KamisPriceItem, DailyP
                 .rankCode(item.getRankCode())
                 .unit(item.getUnit())
                 .build();
-
-        if (productRepository.save(newProduct) == 1) {
-            return newProduct;
-        } else {
-            throw new GeneralException(newProduct.getProductCode() + " - 생성 실패");
-        }
     }
 }
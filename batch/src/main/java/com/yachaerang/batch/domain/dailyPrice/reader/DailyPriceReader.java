@@ -1,6 +1,7 @@
 package com.yachaerang.batch.domain.dailyPrice.reader;
 
 import com.yachaerang.batch.domain.dto.KamisPriceItem;
+import com.yachaerang.batch.exception.GeneralException;
 import com.yachaerang.batch.service.KamisApiService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemReader;
@@ -13,6 +14,9 @@ import java.util.Queue;
 
 /*
 Daily Price Job의 Reader
+- 카테고리를 하나씩 순서대로 조회 (Job에서는 Partition마다 카테고리 하나씩 맡음)
+- 조회 실패는 KamisApiService에서 재시도한 뒤에도 실패한 것이므로, 카테고리를 건너뛰지 않고 GeneralException으로 전달
+  (Step은 GeneralException을 Skip하지 않음)
  */
 @Slf4j
 public class DailyPriceReader implements ItemReader<KamisPriceItem> {
@@ -55,19 +59,25 @@ public class DailyPriceReader implements ItemReader<KamisPriceItem> {
             String categoryCode = categoryCodeQueue.poll();
             log.info("카테고리 {} 데이터 조회 시작: {}", categoryCode, targetDate);
 
+            List<KamisPriceItem> items;
             try {
-                List<KamisPriceItem> items = kamisApiService.getDailyPrices(targetDate, categoryCode);
-
-                if (items != null && !items.isEmpty()) {
-                    currentIterator = items.iterator();
-                    log.info("카테고리 {} 에서 {} 건 조회 완료", categoryCode, items.size());
-                    return currentIterator.next();
-                } else {
-                    log.info("카테고리 {} 데이터 없음", categoryCode);
-                }
-            } catch (Exception e) {
+                items = kamisApiService.getDailyPrices(targetDate, categoryCode);
+            } catch (GeneralException e) {
+                // KamisApiService에서 재시도까지 실패한 경우, 카테고리를 건너뛰지 않고 Step을 실패시킴
                 log.error("카테고리 {} 조회 실패: {}", categoryCode, e.getMessage());
+                throw e;
+            } catch (RuntimeException e) {
+                // 예상하지 못한 실패도 Skip되지 않도록 GeneralException으로 전달
+                log.error("카테고리 {} 조회 실패: {}", categoryCode, e.getMessage(), e);
+                throw new GeneralException("카테고리 " + categoryCode + " 조회 실패: date=" + targetDate, e);
+            }
+
+            if (items != null && !items.isEmpty()) {
+                currentIterator = items.iterator();
+                log.info("카테고리 {} 에서 {} 건 조회 완료", categoryCode, items.size());
+                return currentIterator.next();
             }
+            log.info("카테고리 {} 데이터 없음", categoryCode);
         }
         // 모든 카테고리 처리 완료
         log.info("모든 카테고리 처리 완료: {}", targetDate);
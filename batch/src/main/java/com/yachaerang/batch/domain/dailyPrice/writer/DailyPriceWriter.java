@@ -1,37 +1,119 @@
 package com.yachaerang.batch.domain.dailyPrice.writer;
 
 import com.yachaerang.batch.domain.entity.DailyPrice;
+import com.yachaerang.batch.event.PriceUpdateTracker;
 import com.yachaerang.batch.repository.DailyPriceRepository;
-import lombok.RequiredArgsConstructor;
+import com.yachaerang.batch.repository.PriceRollupRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 /*
 Daily Price Job의 Writer
+- ExecutorType.BATCH로 같은 upsert 문장을 writeBatchSize(batch.write-batch-size)개씩 묶어서 실행
+  (rewriteBatchedStatements=true면 드라이버가 multi-row INSERT로 바꿔서 전송)
+- 저장한 일별 가격이 속한 주차/월/연도의 집계를 같은 트랜잭션에서 일별 가격으로 다시 계산
+  (일별 가격만 커밋되고 집계가 빠지면, Processor가 저장된 (상품, 날짜)를 걸러내므로 재실행으로도 복구되지 않음)
+- 집계는 기존 값에 더하지 않고 다시 계산하므로, 같은 날짜를 다시 저장하는 Job(예: 기간 백필)이나
+  이 Writer의 커밋 뒤에 Chunk가 재실행되어도 같은 가격이 두 번 반영되지 않음
+- Chunk마다 소요 시간과 처리량을 기록
  */
 @Slf4j
-@RequiredArgsConstructor
 public class DailyPriceWriter implements ItemWriter<DailyPrice> {
 
-    private final DailyPriceRepository dailyPriceRepository;
+    private final PriceUpdateTracker priceUpdateTracker;
+    private final SqlSessionFactory sqlSessionFactory;
+    private final int writeBatchSize;
+
+    public DailyPriceWriter(PriceUpdateTracker priceUpdateTracker,
+                            SqlSessionFactory sqlSessionFactory,
+                            int writeBatchSize) {
+        if (writeBatchSize < 1) {
+            throw new IllegalArgumentException("writeBatchSize는 1 이상이어야 합니다: " + writeBatchSize);
+        }
+        this.priceUpdateTracker = priceUpdateTracker;
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.writeBatchSize = writeBatchSize;
+    }
 
     /*
     write
      */
     @Override
     public void write(Chunk<? extends DailyPrice> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
         log.info("일별 가격 데이터 저장: {} 건", chunk.size());
 
         List<DailyPrice> items = new ArrayList<>(chunk.getItems());
-        int inserted = dailyPriceRepository.saveAll(items);
+        long startedAt = System.nanoTime();
+        writeInBatches(items);
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        priceUpdateTracker.recordDaily(items);
+        priceUpdateTracker.recordRollups(items);
+
+        log.info("저장 및 주간/월간/연간 집계 반영 완료: {} 건, {} ms, {} 건/초",
+                items.size(), elapsedMillis, items.size() * 1000L / elapsedMillis);
+    }
+
+    /*
+    고정된 upsert 문장 하나를 재사용, 중복 데이터는 갱신되어 Chunk 전체가 실패하지 않음
+    - 일별 가격과 세 집계를 한 번에 커밋, 중간에 실패하면 모두 롤백
+     */
+    private void writeInBatches(List<DailyPrice> items) {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            DailyPriceRepository batchRepository = sqlSession.getMapper(DailyPriceRepository.class);
+            for (int i = 0; i < items.size(); i++) {
+                batchRepository.upsert(items.get(i));
+                if ((i + 1) % writeBatchSize == 0) {
+                    sqlSession.flushStatements();
+                }
+            }
+
+            rollup(sqlSession.getMapper(PriceRollupRepository.class), items);
+
+            sqlSession.flushStatements();
+            sqlSession.commit();
+        }
+    }
 
-        if(inserted != chunk.size()) {
-            log.warn("일부 insert 실패: {} / {}", inserted, chunk.size());
+    /*
+    저장한 일별 가격을 주차/월/연도별로 묶어, 묶음마다 해당 상품의 집계를 다시 계산
+    - 보통 Chunk 하나는 같은 날짜이므로 주차/월/연도마다 한 문장씩 실행됨
+     */
+    private void rollup(PriceRollupRepository priceRollupRepository, List<DailyPrice> items) {
+        Map<LocalDate, Set<String>> weeks = new TreeMap<>();
+        Map<YearMonth, Set<String>> months = new TreeMap<>();
+        Map<Integer, Set<String>> years = new TreeMap<>();
+        for (DailyPrice item : items) {
+            LocalDate priceDate = item.getPriceDate();
+            weeks.computeIfAbsent(priceDate.with(DayOfWeek.MONDAY), key -> new TreeSet<>()).add(item.getProductCode());
+            months.computeIfAbsent(YearMonth.from(priceDate), key -> new TreeSet<>()).add(item.getProductCode());
+            years.computeIfAbsent(priceDate.getYear(), key -> new TreeSet<>()).add(item.getProductCode());
         }
-        log.debug("저장 완료");
+
+        weeks.forEach((startDate, productCodes) -> priceRollupRepository.rollupWeekly(
+                startDate.get(IsoFields.WEEK_BASED_YEAR), startDate.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR),
+                startDate, startDate.plusDays(6), productCodes));
+        months.forEach((yearMonth, productCodes) -> priceRollupRepository.rollupMonthly(
+                yearMonth.getYear(), yearMonth.getMonthValue(),
+                yearMonth.atDay(1), yearMonth.atEndOfMonth(), productCodes));
+        years.forEach((year, productCodes) -> priceRollupRepository.rollupYearly(
+                year, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), productCodes));
     }
 }
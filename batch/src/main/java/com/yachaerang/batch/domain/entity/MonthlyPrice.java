@@ -4,6 +4,7 @@ import com.yachaerang.batch.domain.common.BaseEntity;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Objects;
 
 @Getter
@@ -25,6 +26,15 @@ public class MonthlyPrice extends BaseEntity {
 
     private Integer priceCount;
 
+    // 월의 첫날/마지막날 가격
+    private Long startPrice;
+    private Long endPrice;
+
+    // 일별 가격이 추가될 때 이어서 집계하기 위한 누적값
+    private Long priceSum;
+    private LocalDate firstPriceDate;
+    private LocalDate lastPriceDate;
+
     private Long priceChange;
     private BigDecimal priceChangeRate;
 
@@ -28,6 +28,15 @@ public class WeeklyPrice extends BaseEntity {
 
     private Integer priceCount;
 
+    // 주차의 첫날/마지막날 가격
+    private Long startPrice;
+    private Long endPrice;
+
+    // 일별 가격이 추가될 때 이어서 집계하기 위한 누적값
+    private Long priceSum;
+    private LocalDate firstPriceDate;
+    private LocalDate lastPriceDate;
+
     private Long priceChange;
     private BigDecimal priceChangeRate;
 
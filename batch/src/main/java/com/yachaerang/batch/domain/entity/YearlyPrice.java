@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Data
 @AllArgsConstructor
@@ -27,6 +28,11 @@ public class YearlyPrice extends BaseEntity {
 
     private Integer priceCount;
 
+    // 일별 가격이 추가될 때 이어서 집계하기 위한 누적값
+    private Long priceSum;
+    private LocalDate firstPriceDate;
+    private LocalDate lastPriceDate;
+
     private Long priceChange;
     private BigDecimal priceChangeRate;
 }
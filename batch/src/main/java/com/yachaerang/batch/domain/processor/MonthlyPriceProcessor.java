@@ -1,22 +1,15 @@
 package com.yachaerang.batch.domain.processor;
 
 import com.yachaerang.batch.domain.entity.MonthlyPrice;
-import com.yachaerang.batch.repository.DailyPriceRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
-import java.time.temporal.TemporalAdjusters;
 
 @Slf4j
-@RequiredArgsConstructor
 public class MonthlyPriceProcessor implements ItemProcessor<MonthlyPrice, MonthlyPrice> {
 
-    private final DailyPriceRepository dailyPriceRepository;
-
     @Override
     public MonthlyPrice process(MonthlyPrice item) throws Exception {
 
@@ -30,12 +23,9 @@ public class MonthlyPriceProcessor implements ItemProcessor<MonthlyPrice, Monthl
         Integer priceYear = item.getPriceYear();
         Integer priceMonth = item.getPriceMonth();
 
-        LocalDate monthStartDate = LocalDate.of(priceYear, priceMonth, 1);
-        LocalDate monthEndDate = LocalDate.of(priceYear, priceMonth, 1)
-                .with(TemporalAdjusters.lastDayOfMonth());
-
-        Long startPrice = dailyPriceRepository.findEarliestPriceInMonth(productCode, monthStartDate, monthEndDate);
-        Long endPrice = dailyPriceRepository.findLatestPriceInMonth(productCode, monthStartDate, monthEndDate);
+        // 해당 월의 시작/종료 가격 (집계 조회에서 함께 계산됨)
+        Long startPrice = item.getStartPrice();
+        Long endPrice = item.getEndPrice();
 
         // 계산
         Long priceChange = 0L;
@@ -60,6 +50,11 @@ public class MonthlyPriceProcessor implements ItemProcessor<MonthlyPrice, Monthl
                 .minPrice(item.getMinPrice())
                 .maxPrice(item.getMaxPrice())
                 .priceCount(item.getPriceCount())
+                .startPrice(startPrice)
+                .endPrice(endPrice)
+                .priceSum(item.getPriceSum())
+                .firstPriceDate(item.getFirstPriceDate())
+                .lastPriceDate(item.getLastPriceDate())
                 .priceChange(priceChange)
                 .priceChangeRate(priceChangeRate)
                 .build();
@@ -1,8 +1,6 @@
 package com.yachaerang.batch.domain.processor;
 
 import com.yachaerang.batch.domain.entity.WeeklyPrice;
-import com.yachaerang.batch.repository.DailyPriceRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
 
@@ -11,11 +9,8 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 
 @Slf4j
-@RequiredArgsConstructor
 public class WeeklyPriceProcessor implements ItemProcessor<WeeklyPrice, WeeklyPrice> {
 
-    private final DailyPriceRepository dailyPriceRepository;
-
     @Override
     public WeeklyPrice process(WeeklyPrice item) throws Exception {
 
@@ -29,10 +24,9 @@ public class WeeklyPriceProcessor implements ItemProcessor<WeeklyPrice, WeeklyPr
         LocalDate startDate = item.getStartDate();
         LocalDate endDate = item.getEndDate();
 
-        // 해당 주차의 시작 가격 조회
-        Long startPrice = dailyPriceRepository.findEarliestPriceInWeek(productCode, startDate, endDate);
-        // 해당 주차의 종료 가격 조회
-        Long endPrice = dailyPriceRepository.findLatestPriceInWeek(productCode, startDate, endDate);
+        // 해당 주차의 시작/종료 가격 (집계 조회에서 함께 계산됨)
+        Long startPrice = item.getStartPrice();
+        Long endPrice = item.getEndPrice();
 
         // 계산
         Long priceChange = 0L;
@@ -58,6 +52,11 @@ public class WeeklyPriceProcessor implements ItemProcessor<WeeklyPrice, WeeklyPr
                 .minPrice(item.getMinPrice())
                 .maxPrice(item.getMaxPrice())
                 .priceCount(item.getPriceCount())
+                .startPrice(startPrice)
+                .endPrice(endPrice)
+                .priceSum(item.getPriceSum())
+                .firstPriceDate(item.getFirstPriceDate())
+                .lastPriceDate(item.getLastPriceDate())
                 .priceChange(priceChange)
                 .priceChangeRate(priceChangeRate)
                 .build();
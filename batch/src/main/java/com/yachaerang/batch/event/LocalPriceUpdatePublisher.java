@@ -0,0 +1,21 @@
+package com.yachaerang.batch.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+Redis 없이 실행할 때 사용하는 발행자 (로그만 남김)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "price-event.publisher", havingValue = "local")
+public class LocalPriceUpdatePublisher implements PriceUpdatePublisher {
+
+    @Override
+    public void publish(PriceUpdateEvent event) {
+        log.info("가격 갱신 이벤트(local): periodType={}, {} ~ {}, 상품 {} 건",
+                event.getPeriodType(), event.getStartDate(), event.getEndDate(),
+                event.getProductCodes().size());
+    }
+}
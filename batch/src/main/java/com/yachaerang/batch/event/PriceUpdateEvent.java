@@ -0,0 +1,28 @@
+package com.yachaerang.batch.event;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/*
+가격 데이터 갱신 이벤트 (batch -> backend)
+- periodType : DAILY, WEEKLY, MONTHLY, YEARLY
+- startDate ~ endDate : 이번 Job에서 저장한 데이터가 속한 기간
+- productCodes : 저장된 상품 코드 목록 (비어있으면 기간 내 전체 상품)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceUpdateEvent {
+
+    private String periodType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<String> productCodes;
+
+    private String jobName;
+    private Long jobExecutionId;
+}
@@ -0,0 +1,9 @@
+package com.yachaerang.batch.event;
+
+/*
+가격 갱신 이벤트 발행
+ */
+public interface PriceUpdatePublisher {
+
+    void publish(PriceUpdateEvent event);
+}
@@ -0,0 +1,129 @@
+package com.yachaerang.batch.event;
+
+import com.yachaerang.batch.domain.entity.DailyPrice;
+import com.yachaerang.batch.domain.entity.MonthlyPrice;
+import com.yachaerang.batch.domain.entity.WeeklyPrice;
+import com.yachaerang.batch.domain.entity.YearlyPrice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+Job 실행 중 저장된 가격 데이터의 기간과 상품 코드를 periodType별로 모아두기
+- Writer에서 record, Job 종료 시 JobCompletionListener에서 drain
+- 한 Job이 여러 periodType을 저장할 수 있으므로(예: 일별 저장과 함께 주간/월간/연간 집계 반영) periodType마다 이벤트 하나
+- 파티션 Step이 여러 스레드에서 동시에 기록하므로 JobExecution 단위로 동기화
+ */
+@Slf4j
+@Component
+public class PriceUpdateTracker {
+
+    // jobExecutionId -> periodType -> 기간/상품 (periodType은 기록한 순서대로)
+    private final Map<Long, Map<String, UpdatedRange>> ranges = new ConcurrentHashMap<>();
+
+    public void recordDaily(List<? extends DailyPrice> items) {
+        for (DailyPrice item : items) {
+            record("DAILY", item.getPriceDate(), item.getPriceDate(), item.getProductCode());
+        }
+    }
+
+    /*
+    일별 가격과 함께 반영한 주간(월~일)/월간/연간 집계의 기간 기록
+     */
+    public void recordRollups(List<? extends DailyPrice> items) {
+        for (DailyPrice item : items) {
+            LocalDate priceDate = item.getPriceDate();
+            if (priceDate == null) {
+                continue;
+            }
+            LocalDate weekStart = priceDate.with(DayOfWeek.MONDAY);
+            YearMonth yearMonth = YearMonth.from(priceDate);
+            record("WEEKLY", weekStart, weekStart.plusDays(6), item.getProductCode());
+            record("MONTHLY", yearMonth.atDay(1), yearMonth.atEndOfMonth(), item.getProductCode());
+            record("YEARLY", LocalDate.of(priceDate.getYear(), 1, 1),
+                    LocalDate.of(priceDate.getYear(), 12, 31), item.getProductCode());
+        }
+    }
+
+    public void recordWeekly(List<? extends WeeklyPrice> items) {
+        for (WeeklyPrice item : items) {
+            record("WEEKLY", item.getStartDate(), item.getEndDate(), item.getProductCode());
+        }
+    }
+
+    public void recordMonthly(List<? extends MonthlyPrice> items) {
+        for (MonthlyPrice item : items) {
+            YearMonth yearMonth = YearMonth.of(item.getPriceYear(), item.getPriceMonth());
+            record("MONTHLY", yearMonth.atDay(1), yearMonth.atEndOfMonth(), item.getProductCode());
+        }
+    }
+
+    public void recordYearly(List<? extends YearlyPrice> items) {
+        for (YearlyPrice item : items) {
+            int year = item.getPriceYear();
+            record("YEARLY", LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31), item.getProductCode());
+        }
+    }
+
+    /*
+    Job 종료 시 모아둔 내용을 periodType마다 이벤트로 변환, 저장된 데이터가 없으면 빈 목록
+     */
+    public List<PriceUpdateEvent> drain(JobExecution jobExecution) {
+        Map<String, UpdatedRange> periodRanges = ranges.remove(jobExecution.getId());
+        if (periodRanges == null) {
+            return List.of();
+        }
+        synchronized (periodRanges) {
+            List<PriceUpdateEvent> events = new ArrayList<>(periodRanges.size());
+            periodRanges.forEach((periodType, range) -> events.add(PriceUpdateEvent.builder()
+                    .periodType(periodType)
+                    .startDate(range.startDate)
+                    .endDate(range.endDate)
+                    .productCodes(new ArrayList<>(range.productCodes))
+                    .jobName(jobExecution.getJobInstance().getJobName())
+                    .jobExecutionId(jobExecution.getId())
+                    .build()));
+            return events;
+        }
+    }
+
+    private void record(String periodType, LocalDate startDate, LocalDate endDate, String productCode) {
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext == null || startDate == null || endDate == null) {
+            log.debug("가격 갱신 기록 생략: periodType={}, productCode={}", periodType, productCode);
+            return;
+        }
+        Long jobExecutionId = stepContext.getStepExecution().getJobExecutionId();
+        Map<String, UpdatedRange> periodRanges = ranges.computeIfAbsent(jobExecutionId, id -> new LinkedHashMap<>());
+        synchronized (periodRanges) {
+            periodRanges.computeIfAbsent(periodType, type -> new UpdatedRange())
+                    .include(startDate, endDate, productCode);
+        }
+    }
+
+    private static class UpdatedRange {
+        private final Set<String> productCodes = new TreeSet<>();
+        private LocalDate startDate;
+        private LocalDate endDate;
+
+        private void include(LocalDate start, LocalDate end, String productCode) {
+            if (startDate == null || start.isBefore(startDate)) {
+                startDate = start;
+            }
+            if (endDate == null || end.isAfter(endDate)) {
+                endDate = end;
+            }
+            if (productCode != null) {
+                productCodes.add(productCode);
+            }
+        }
+    }
+}
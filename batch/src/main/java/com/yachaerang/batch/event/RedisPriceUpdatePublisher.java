@@ -0,0 +1,41 @@
+package com.yachaerang.batch.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yachaerang.batch.exception.GeneralException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+Redis Pub/Sub 채널로 가격 갱신 이벤트 발행
+- backend의 구독자가 받아서 가격 캐시를 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "price-event.publisher", havingValue = "redis", matchIfMissing = true)
+public class RedisPriceUpdatePublisher implements PriceUpdatePublisher {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${price-event.channel:yachaerang:price-updated}")
+    private String channel;
+
+    @Override
+    public void publish(PriceUpdateEvent event) {
+        try {
+            String message = objectMapper.writeValueAsString(event);
+            Long receivers = stringRedisTemplate.convertAndSend(channel, message);
+            log.info("가격 갱신 이벤트 발행: channel={}, periodType={}, {} ~ {}, 상품 {} 건, 수신자 {}",
+                    channel, event.getPeriodType(), event.getStartDate(), event.getEndDate(),
+                    event.getProductCodes().size(), receivers);
+        } catch (JsonProcessingException e) {
+            throw new GeneralException("가격 갱신 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.yachaerang.batch.exception;
+
+/*
+KAMIS 호출이 재시도 후에도 실패한 경우 (연결 실패, 5xx, HTML 에러 페이지, 에러 코드 응답, Circuit Open)
+- Step에서 Skip하지 않고 실패로 처리하여, 카테고리가 조용히 빠지지 않고 재실행 대상이 되도록 함
+ */
+public class KamisApiException extends GeneralException {
+
+    public KamisApiException(String message) {
+        super(message);
+    }
+
+    public KamisApiException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,9 @@
 package com.yachaerang.batch.listener;
 
+import com.yachaerang.batch.event.PriceUpdateEvent;
+import com.yachaerang.batch.event.PriceUpdatePublisher;
+import com.yachaerang.batch.event.PriceUpdateTracker;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
@@ -8,14 +12,19 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /*
 Job에 대한 Listener 구현
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JobCompletionListener implements JobExecutionListener {
 
+    private final PriceUpdateTracker priceUpdateTracker;
+    private final PriceUpdatePublisher priceUpdatePublisher;
+
     /*
     시작 이전의 Listener
      */
@@ -50,5 +59,27 @@ public class JobCompletionListener implements JobExecutionListener {
                     .forEach(e -> log.error("Exception: ", e));
         }
         log.info("========================================");
+
+        publishPriceUpdate(jobExecution);
+    }
+
+    /*
+    저장된 가격 데이터가 있으면 실패/Skip 여부와 관계없이 periodType마다 갱신 이벤트 발행
+    - 이벤트 발행 실패가 Job 결과나 다른 이벤트 발행에 영향을 주지 않도록 예외는 로그만 남김
+     */
+    private void publishPriceUpdate(JobExecution jobExecution) {
+        List<PriceUpdateEvent> events = priceUpdateTracker.drain(jobExecution);
+        if (events.isEmpty()) {
+            log.info("저장된 가격 데이터 없음 - 갱신 이벤트 발행 생략");
+            return;
+        }
+        for (PriceUpdateEvent event : events) {
+            try {
+                priceUpdatePublisher.publish(event);
+            } catch (Exception e) {
+                log.error("가격 갱신 이벤트 발행 실패: jobName={}, periodType={}",
+                        event.getJobName(), event.getPeriodType(), e);
+            }
+        }
     }
 }
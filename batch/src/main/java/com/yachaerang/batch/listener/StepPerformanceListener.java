@@ -0,0 +1,116 @@
+package com.yachaerang.batch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterProcess;
+import org.springframework.batch.core.annotation.AfterRead;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.AfterWrite;
+import org.springframework.batch.core.annotation.BeforeProcess;
+import org.springframework.batch.core.annotation.BeforeRead;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.core.annotation.BeforeWrite;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+/*
+Step의 처리량과 단계별(읽기/가공/저장) 소요 시간을 기록하는 Listener
+- Step이 끝나면 초당 처리 건수와 단계별 총/평균 소요 시간을 로그로 남김 (KAMIS Stub과 함께 처리량 측정에 사용)
+- Partition Step은 여러 스레드에서 동시에 실행되므로 측정값은 스레드(= 실행 중인 Step)마다 따로 보관
+ */
+@Slf4j
+@Component
+public class StepPerformanceListener {
+
+    private final ThreadLocal<StageTimes> stageTimes = new ThreadLocal<>();
+
+    @BeforeStep
+    public void beforeStep(StepExecution stepExecution) {
+        stageTimes.set(new StageTimes());
+    }
+
+    @BeforeRead
+    public void beforeRead() {
+        current().readStartedAt = System.nanoTime();
+    }
+
+    @AfterRead
+    public void afterRead(Object item) {
+        StageTimes times = current();
+        times.readNanos += System.nanoTime() - times.readStartedAt;
+        times.readCount++;
+    }
+
+    @BeforeProcess
+    public void beforeProcess(Object item) {
+        current().processStartedAt = System.nanoTime();
+    }
+
+    @AfterProcess
+    public void afterProcess(Object item, Object result) {
+        StageTimes times = current();
+        times.processNanos += System.nanoTime() - times.processStartedAt;
+        times.processCount++;
+    }
+
+    @BeforeWrite
+    public void beforeWrite(Chunk<?> items) {
+        current().writeStartedAt = System.nanoTime();
+    }
+
+    @AfterWrite
+    public void afterWrite(Chunk<?> items) {
+        StageTimes times = current();
+        times.writeNanos += System.nanoTime() - times.writeStartedAt;
+        times.writeCount += items.size();
+    }
+
+    @AfterStep
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        StageTimes times = current();
+        stageTimes.remove();
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - times.stepStartedAt) / 1_000_000);
+        log.info("Step 성능: {} - {} 건, {} ms, {} 건/초", stepExecution.getStepName(),
+                stepExecution.getWriteCount(), elapsedMillis, stepExecution.getWriteCount() * 1000L / elapsedMillis);
+        log.info(" - 읽기: {} 건, 총 {} ms, 평균 {} ms", times.readCount,
+                millis(times.readNanos), average(times.readNanos, times.readCount));
+        log.info(" - 가공: {} 건, 총 {} ms, 평균 {} ms", times.processCount,
+                millis(times.processNanos), average(times.processNanos, times.processCount));
+        log.info(" - 저장: {} 건, 총 {} ms, 평균 {} ms", times.writeCount,
+                millis(times.writeNanos), average(times.writeNanos, times.writeCount));
+        return stepExecution.getExitStatus();
+    }
+
+    // beforeStep 없이 호출된 경우(다른 스레드에서 실행된 Chunk 등)에도 동작하도록
+    private StageTimes current() {
+        StageTimes times = stageTimes.get();
+        if (times == null) {
+            times = new StageTimes();
+            stageTimes.set(times);
+        }
+        return times;
+    }
+
+    private static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static String average(long nanos, long count) {
+        return count == 0 ? "0" : String.format("%.3f", nanos / 1_000_000.0 / count);
+    }
+
+    private static class StageTimes {
+        private final long stepStartedAt = System.nanoTime();
+        private long readStartedAt;
+        private long processStartedAt;
+        private long writeStartedAt;
+        private long readNanos;
+        private long processNanos;
+        private long writeNanos;
+        private long readCount;
+        private long processCount;
+        private long writeCount;
+    }
+}
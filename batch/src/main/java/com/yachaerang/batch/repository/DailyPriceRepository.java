@@ -19,11 +19,25 @@ public interface DailyPriceRepository {
             @Param("priceDate") LocalDate priceDate
     );
 
+    /*
+    상품별로 특정 날짜 이전의 가장 최근 가격 조회 (productCode, price만 채움)
+    - productCodePrefix로 시작하는 상품만 조회, null이면 전체
+     */
+    List<DailyPrice> findLatestPricesBefore(
+            @Param("priceDate") LocalDate priceDate,
+            @Param("productCodePrefix") String productCodePrefix
+    );
+
     /*
     전부 저장하기
      */
     int saveAll(List<DailyPrice> dailyPrices);
 
+    /*
+    하나 저장, 이미 있으면 가격 갱신 (ExecutorType.BATCH로 묶어서 실행)
+     */
+    int upsert(DailyPrice dailyPrice);
+
     /*
     해당 상품과 날짜에 대해 존재여부 확인
      */
@@ -32,6 +46,15 @@ public interface DailyPriceRepository {
             @Param("priceDate") LocalDate priceDate
             );
 
+    /*
+    해당 날짜에 가격이 저장된 productCode 조회
+    - productCodePrefix로 시작하는 상품만 조회, null이면 전체
+     */
+    List<String> findProductCodesByPriceDate(
+            @Param("priceDate") LocalDate priceDate,
+            @Param("productCodePrefix") String productCodePrefix
+    );
+
     // 주간에 사용
     /**
      * 특정 상품의 주차 내 가장 빠른 날짜의 가격 조회
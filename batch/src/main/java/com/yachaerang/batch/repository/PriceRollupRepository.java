@@ -0,0 +1,38 @@
+package com.yachaerang.batch.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Mapper
+public interface PriceRollupRepository {
+
+    /*
+    해당 주차(startDate ~ endDate, 월~일)의 주간 집계를 상품별로 일별 가격에서 다시 계산하여 저장
+    - priceYear, weekNumber : 시작일의 ISO 연도/주차
+     */
+    void rollupWeekly(@Param("priceYear") int priceYear,
+                      @Param("weekNumber") int weekNumber,
+                      @Param("startDate") LocalDate startDate,
+                      @Param("endDate") LocalDate endDate,
+                      @Param("productCodes") Collection<String> productCodes);
+
+    /*
+    해당 월의 월간 집계를 상품별로 일별 가격에서 다시 계산하여 저장
+     */
+    void rollupMonthly(@Param("priceYear") int priceYear,
+                       @Param("priceMonth") int priceMonth,
+                       @Param("startDate") LocalDate startDate,
+                       @Param("endDate") LocalDate endDate,
+                       @Param("productCodes") Collection<String> productCodes);
+
+    /*
+    해당 연도의 연간 집계를 상품별로 일별 가격에서 다시 계산하여 저장
+     */
+    void rollupYearly(@Param("priceYear") int priceYear,
+                      @Param("startDate") LocalDate startDate,
+                      @Param("endDate") LocalDate endDate,
+                      @Param("productCodes") Collection<String> productCodes);
+}
@@ -14,6 +14,11 @@ public interface ProductRepository {
      */
     int save(Product product);
 
+    /*
+    여러 상품 한 번에 저장 (이미 있는 productCode는 무시)
+     */
+    int saveAll(List<Product> products);
+
     /*
     각각의 조건을 기반으로 조회
      */
@@ -42,4 +47,14 @@ public interface ProductRepository {
     productCode를 기반으로 작업
      */
     Product findByProductCode(@Param("productCode") String productCode);
+
+    /*
+    전체 productCode 조회
+     */
+    List<String> findAllProductCodes();
+
+    /*
+    productCodePrefix로 시작하는 productCode 조회
+     */
+    List<String> findProductCodesByPrefix(@Param("productCodePrefix") String productCodePrefix);
 }
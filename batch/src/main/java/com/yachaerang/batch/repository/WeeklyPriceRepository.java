@@ -17,6 +17,13 @@ public interface WeeklyPriceRepository {
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate);
 
+    /*
+    기간 전체를 ISO 주차별로 집계하기 (여러 주 한 번에)
+     */
+    List<WeeklyPrice> selectWeeklyAggregatedPricesInRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
     /*
     주간 가격 데이터 저장
      */
@@ -4,15 +4,25 @@ import com.yachaerang.batch.domain.entity.YearlyPrice;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface YearlyPriceRepository {
 
     /*
-    일별 데이터를 연간으로 집계하여 조회
+    일별 데이터를 연간으로 집계하여 조회 (productCodes가 null이면 전체 상품, 비어 있으면 안 됨)
      */
-    List<YearlyPrice> selectYearlyAggregatedPrices(@Param("targetYear") Integer targetYear);
+    List<YearlyPrice> selectYearlyAggregatedPrices(
+            @Param("targetYear") Integer targetYear,
+            @Param("productCodes") Collection<String> productCodes
+    );
+
+    /*
+    저장된 월간 데이터를 연간으로 집계하여 조회 (상품당 최대 12행만 읽음)
+    - 월간 가격 개수의 합이 그 해 일별 가격 개수와 같은 상품만 반환
+     */
+    List<YearlyPrice> selectYearlyAggregatedPricesFromMonthly(@Param("targetYear") Integer targetYear);
 
     /**
      * 연초 가격 조회
@@ -12,7 +12,6 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -26,6 +25,8 @@ public class BatchJobService {
     private final Job weeklyPriceJob;
     private final Job monthlyPriceJob;
     private final Job yearlyPriceJob;
+    private final Job weeklyRangePriceJob;
+    private final Job monthlyRangePriceJob;
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
@@ -116,6 +117,7 @@ public class BatchJobService {
 
     /**
      * 특정 기간의 주간 데이터를 수동으로 수집
+     * - 주차마다 Job을 실행하지 않고, 기간 전체를 weeklyRangePriceJob 한 번으로 집계
      *
      * @param startYear
      * @param startWeek
@@ -132,47 +134,29 @@ public class BatchJobService {
         if (startWeek < 1 || startWeek > 53 || endWeek < 1 || endWeek > 53) {
             throw new IllegalArgumentException("주차는 1~52 또는 53만 허용합니다.");
         }
+        if (startWeek > WeekUtils.getLastIsoWeekOfYear(startYear)
+                || endWeek > WeekUtils.getLastIsoWeekOfYear(endYear)) {
+            throw new IllegalArgumentException("week가 해당 년도의 주차에 존재하지 않는 주차입니다.");
+        }
 
-        log.info("주간 집계 범위 실행 시작 - {}년 {}주 ~ {}년 {}주",
-                startYear, startWeek, endYear, endWeek);
+        LocalDate startDate = WeekUtils.getWeekStartDate(startYear, startWeek);
+        LocalDate endDate = WeekUtils.getWeekEndDate(endYear, endWeek);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("날짜 설정을 똑바로 해주세요.");
+        }
+        // 날짜 검증
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        if (!endDate.isBefore(yesterday)) {
+            throw new IllegalArgumentException("아직 완료되지 않은 주입니다.");
+        }
 
-        List<JobExecution> resultList = new ArrayList<>();
+        log.info("주간 집계 범위 실행 시작 - {}년 {}주 ~ {}년 {}주, 기간: {} ~ {}",
+                startYear, startWeek, endYear, endWeek, startDate, endDate);
 
         try {
-            // 같은 연도일 때
-            if (startYear.intValue() == endYear.intValue()) {
-                for (int week = startWeek; week <= endWeek; week++) {
-                    JobExecution result = runWeeklyAggregation(startYear, week);
-                    resultList.add(result);
-                }
-            }
-            // 연도가 다를 때
-            else {
-                // 시작년도의 startWeek ~ 마지막 주까지
-                int lastWeekOfStartYear = WeekUtils.getLastIsoWeekOfYear(startYear);
-                for (int week = startWeek; week <= lastWeekOfStartYear; week++) {
-                    JobExecution result = runWeeklyAggregation(startYear, week);
-                    resultList.add(result);
-                }
-
-                // 중간년도(1년 넘게 차이난다면)
-                for (int year = startYear + 1; year < endYear; year++) {
-                    int lastWeekOfYear = WeekUtils.getLastIsoWeekOfYear(year);
-                    for (int week = 1; week <= lastWeekOfYear; week++) {
-                        JobExecution result = runWeeklyAggregation(year, week);
-                        resultList.add(result);
-                    }
-                }
-
-                // 종료년도의 1주차부터 endWeek까지
-                for (int week = 1; week <= endWeek; week++) {
-                    JobExecution result = runWeeklyAggregation(endYear, week);
-                    resultList.add(result);
-                }
-            }
-
-            log.info("주간 집계 범위 실행 완료 - 총 {}개 Job 실행", resultList.size());
-            return resultList;
+            JobExecution result = jobLauncher.run(weeklyRangePriceJob, rangeParameters(startDate, endDate));
+            log.info("주간 집계 범위 실행 완료 - status: {}", result.getStatus());
+            return List.of(result);
 
         } catch (Exception e) {
             log.error("주간 집계 범위 실행 중 예외 발생", e);
@@ -180,6 +164,43 @@ public class BatchJobService {
         }
     }
 
+    /**
+     * 특정 기간의 월간 데이터를 한 번의 Job으로 수집
+     */
+    public JobExecution collectMonthly(
+            Integer startYear, Integer startMonth, Integer endYear, Integer endMonth
+    ) {
+        if (startYear == null || startMonth == null || endYear == null || endMonth == null) {
+            throw new GeneralException("year와 month는 필수입니다.");
+        }
+        if (startMonth < 1 || startMonth > 12 || endMonth < 1 || endMonth > 12) {
+            throw new GeneralException("month는 1~12 사이여야합니다.");
+        }
+        YearMonth startYearMonth = YearMonth.of(startYear, startMonth);
+        YearMonth endYearMonth = YearMonth.of(endYear, endMonth);
+        if (startYearMonth.isAfter(endYearMonth)) {
+            throw new GeneralException("날짜 설정을 똑바로 해주세요.");
+        }
+        if (!endYearMonth.isBefore(YearMonth.now())) {
+            throw new GeneralException(
+                    String.format("아직 완료되지 않은 달입니다. 대상: %d년 %d월", endYear, endMonth)
+            );
+        }
+
+        log.info("월간 집계 범위 실행 - {} ~ {}", startYearMonth, endYearMonth);
+
+        try {
+            return jobLauncher.run(monthlyRangePriceJob,
+                    rangeParameters(startYearMonth.atDay(1), endYearMonth.atEndOfMonth()));
+        } catch (JobExecutionAlreadyRunningException e) {
+            log.warn("이미 실행 중인 Job입니다.");
+            throw new GeneralException("이미 실행 중인 Job입니다.", e);
+        } catch (Exception e) {
+            log.error("월간 집계 범위 Job 실행 실패", e);
+            throw new GeneralException("Job 실행 실패: " + e.getMessage(), e);
+        }
+    }
+
 
     /**
      * 특정 기간의 월간 가격 집계 실행
@@ -253,4 +274,12 @@ public class BatchJobService {
             throw new RuntimeException("Job 실행 실패: " + e.getMessage(), e);
         }
     }
+
+    private JobParameters rangeParameters(LocalDate startDate, LocalDate endDate) {
+        return new JobParametersBuilder()
+                .addString("startDate", startDate.format(FORMATTER))
+                .addString("endDate", endDate.format(FORMATTER))
+                .addLong("timestamp", System.currentTimeMillis())
+                .toJobParameters();
+    }
 }
@@ -1,26 +1,31 @@
 package com.yachaerang.batch.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.yachaerang.batch.domain.dto.KamisApiResponse;
 import com.yachaerang.batch.domain.dto.KamisPriceItem;
 import com.yachaerang.batch.exception.GeneralException;
+import com.yachaerang.batch.exception.KamisApiException;
 import com.yachaerang.batch.util.DateUtils;
+import com.yachaerang.batch.util.KamisResponseParser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-
-import static org.springframework.util.StringUtils.truncate;
+import java.util.concurrent.ThreadLocalRandom;
 
 /*
 KAMIS로부터 데이터를 가져오는 코드
@@ -31,8 +36,28 @@ KAMIS로부터 데이터를 가져오는 코드
 public class KamisApiService {
 
     private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
-    private static final String KAMIS_DAILY_PRICE_URL = "http://www.kamis.or.kr/service/price/xml.do";
+    private final KamisRequestThrottle kamisRequestThrottle;
+    private final KamisResponseParser kamisResponseParser;
+    private final KamisResponseCache kamisResponseCache;
+    private final KamisCircuitBreaker kamisCircuitBreaker;
+    private static final String DAILY_PRICE_ACTION = "dailyPriceByCategoryList";
+    private static final String PRODUCT_CLS_CODE = "02"; // 01: 소매, 02: 도매
+    // 로그와 에러 메시지에 남길 body 앞부분 크기
+    private static final int BODY_LOG_BYTES = 200;
+
+    // 처리량 측정 시 kamis-stub 프로필의 Stub 서버로 바꿀 수 있음
+    @Value("${external.kamis.daily-price-url:http://www.kamis.or.kr/service/price/xml.do}")
+    private String dailyPriceUrl;
+
+    // 실패 시 재시도 : 최대 시도 횟수, 지수 백오프 시작/최대 대기 시간
+    @Value("${external.kamis.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${external.kamis.backoff-initial-ms:500}")
+    private long backoffInitialMillis;
+
+    @Value("${external.kamis.backoff-max-ms:30000}")
+    private long backoffMaxMillis;
 
     @Value("${external.kamis.api-key}")
     private String kamisApiKey;
@@ -42,78 +67,192 @@ public class KamisApiService {
 
     /**
      * 특정 날짜의 일별 가격 정보 조회
+     * - 응답 body를 String으로 받지 않고 InputStream에서 바로 KamisPriceItem으로 변환
+     * - 캐시에 보관된 응답이 있으면 네트워크를 쓰지 않음
      */
     public List<KamisPriceItem> getDailyPrices(LocalDate date, String categoryCode) {
+        String cacheKey = kamisResponseCache.key(DAILY_PRICE_ACTION, PRODUCT_CLS_CODE, categoryCode, date);
+        InputStream cached = kamisResponseCache.open(cacheKey);
+        if (cached != null) {
+            log.info("KAMIS 캐시 응답 사용: date={}, category={}", date, categoryCode);
+            try (InputStream body = cached) {
+                return parseDailyPrices(new BufferedInputStream(body), date, null);
+            } catch (IOException | GeneralException e) {
+                // 깨진 캐시 파일 때문에 계속 실패하지 않도록 지우고 네트워크로 조회 (offline이면 아래에서 실패)
+                log.warn("KAMIS 캐시 응답을 읽을 수 없어 삭제: date={}, category={}, error={}",
+                        date, categoryCode, e.getMessage());
+                kamisResponseCache.invalidate(cacheKey);
+            }
+        }
+        if (kamisResponseCache.isOffline()) {
+            throw new KamisApiException("KAMIS 캐시에 응답이 없습니다 (offline): date=" + date + ", category=" + categoryCode);
+        }
+
         String url = buildApiUrl(date, categoryCode);
 
         log.info("KAMIS API 호출: date={}, category={}, url={}", date, categoryCode, url);
 
+        String recordKey = kamisResponseCache.isCacheable(date) ? cacheKey : null;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return exchange(url, response -> readDailyPrices(response, date, recordKey));
+            } catch (RestClientException | KamisApiException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("KAMIS API 호출 실패: date={}, category={}, {}회 시도, error={}",
+                            date, categoryCode, attempt, e.getMessage(), e);
+                    throw new KamisApiException("KAMIS API 호출 실패: date=" + date + ", category=" + categoryCode, e);
+                }
+                long backoffMillis = backoff(attempt);
+                log.warn("KAMIS API 호출 실패, {} ms 후 재시도 ({}/{}): date={}, category={}, error={}",
+                        backoffMillis, attempt, maxAttempts, date, categoryCode, e.getMessage());
+                sleep(backoffMillis);
+            }
+        }
+    }
+
+    /*
+    지수 백오프 (full jitter) : 0 ~ min(최대, 시작 * 2^(attempt-1)) 사이에서 무작위
+    - 여러 Partition이 동시에 실패해도 같은 시점에 다시 몰리지 않도록 함
+     */
+    private long backoff(int attempt) {
+        long ceiling = Math.min(backoffMaxMillis, backoffInitialMillis << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis) {
         try {
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException("KAMIS API 재시도 대기 중 중단", e);
+        }
+    }
 
-            MediaType contentType = response.getHeaders().getContentType();
-            String body = response.getBody();
+    /*
+    응답 헤더 확인 후 body를 Streaming으로 파싱, recordKey가 있으면 읽으면서 캐시에도 기록
+     */
+    private List<KamisPriceItem> readDailyPrices(ClientHttpResponse response, LocalDate date, String recordKey)
+            throws IOException {
+        MediaType contentType = response.getHeaders().getContentType();
+        log.info("KAMIS 응답 status = {}, contentType = {}", response.getStatusCode(), contentType);
 
-            log.info("KAMIS 응답 status = {}, contentType = {}",
-                    response.getStatusCode(), contentType);
-            log.info("KAMIS 응답 body(앞부분)={}", truncate(body));
+        if (contentType != null && contentType.includes(MediaType.TEXT_HTML)) {
+            throw new KamisApiException("KAMIS API HTML 에러 응답: " + peek(new BufferedInputStream(response.getBody())));
+        }
 
-            if (contentType != null && contentType.includes(MediaType.TEXT_HTML)) {
-                throw new GeneralException("KAMIS API HTML 에러 응답: " + truncate(body));
-            }
+        if (recordKey == null) {
+            return parseDailyPrices(new BufferedInputStream(response.getBody()), date, null);
+        }
+        KamisResponseCache.Recording recording = kamisResponseCache.record(recordKey, response.getBody());
+        try {
+            return parseDailyPrices(new BufferedInputStream(recording), date, recording);
+        } finally {
+            recording.discard();
+        }
+    }
 
-            if (body == null || body.isBlank()) {
-                log.warn("KAMIS API 응답 body가 비어있습니다: date={}", date);
-                return Collections.emptyList();
-            }
+    /*
+    body 파싱, 정상 응답(000)이면 recording을 캐시에 반영
+    - 데이터 없음(001)은 나중에 가격이 올라올 수 있어 충분히 지난 날짜만 반영
+    - 로그와 에러 메시지용으로 body 앞부분만 따로 읽어둠
+     */
+    private List<KamisPriceItem> parseDailyPrices(BufferedInputStream body, LocalDate date,
+                                                  KamisResponseCache.Recording recording) throws IOException {
+        String head = peek(body);
+        log.info("KAMIS 응답 body(앞부분)={}", head);
 
-            KamisApiResponse apiResponse;
-            try {
-                JsonNode root = objectMapper.readTree(body);
-                JsonNode data = root.get("data");
-
-                // 001 (데이터 비어있는) 경우
-                if (data != null && data.isArray() && data.size() == 1 && data.get(0).isTextual()
-                && "001".equals(data.get(0).asText())) {
-                    log.warn("KAMIS API data=001 응답 (데이터 없음): date={}, body={}",
-                            date, truncate(body));
-                    return Collections.emptyList();
-                }
+        if (head.isBlank()) {
+            log.warn("KAMIS API 응답 body가 비어있습니다: date={}", date);
+            return Collections.emptyList();
+        }
 
-                // 파싱이 되는 경우
-                apiResponse = objectMapper.readValue(body, KamisApiResponse.class);
+        List<KamisPriceItem> items = new ArrayList<>();
+        KamisResponseParser.Result result;
+        try {
+            result = kamisResponseParser.parse(body, items::add);
+        } catch (IOException e) {
+            // 잘린 응답이나 형식이 다른 응답은 다시 요청하면 정상일 수 있으므로 재시도 대상
+            log.error("KAMIS JSON 파싱 실패: body={}", head, e);
+            throw new KamisApiException("KAMIS JSON 파싱 실패: date=" + date, e);
+        }
 
-            } catch (Exception e) {
-                log.error("KAMIS JSON 파싱 실패: body={}", truncate(body), e);
-                throw new GeneralException("KAMIS JSON 파싱 실패", e);
-            }
+        if (!result.isDataPresent()) {
+            log.warn("KAMIS API 응답 데이터가 없습니다: date={}", date);
+            return Collections.emptyList();
+        }
 
-            if (apiResponse == null || apiResponse.getData() == null) {
-                log.warn("KAMIS API 응답 데이터가 없습니다: date={}", date);
-                return Collections.emptyList();
+        // 001 (데이터 비어있는) 경우
+        if ("001".equals(result.getErrorCode())) {
+            log.warn("KAMIS API data=001 응답 (데이터 없음): date={}", date);
+            if (kamisResponseCache.isNoDataCacheable(date)) {
+                commit(recording);
             }
+            return Collections.emptyList();
+        }
 
-            if (!"000".equals(apiResponse.getData().getErrorCode())) {
-                log.warn("KAMIS API 에러 코드: {}, message={}",
-                        apiResponse.getData().getErrorCode());
-                return Collections.emptyList();
-            }
+        if (!"000".equals(result.getErrorCode())) {
+            throw new KamisApiException("KAMIS API 에러 코드: " + result.getErrorCode() + ", date=" + date);
+        }
 
-            List<KamisPriceItem> items = apiResponse.getData().getItems();
-            log.info("KAMIS API 응답 수신: {} 건", items != null ? items.size() : 0);
+        log.info("KAMIS API 응답 수신: {} 건", result.getItemCount());
+        commit(recording);
+        return items;
+    }
 
-            return items != null ? items : Collections.emptyList();
+    private void commit(KamisResponseCache.Recording recording) throws IOException {
+        if (recording != null) {
+            recording.commit();
+        }
+    }
 
-        } catch (RestClientException e) {
-            log.error("KAMIS API 호출 실패: date={}, error={}", date, e.getMessage(), e);
-            throw new GeneralException("KAMIS API 호출 실패", e);
+    /*
+    body 앞부분을 읽고 다시 처음으로 되돌림
+     */
+    private String peek(BufferedInputStream body) throws IOException {
+        body.mark(BODY_LOG_BYTES);
+        byte[] head = body.readNBytes(BODY_LOG_BYTES);
+        body.reset();
+        return new String(head, StandardCharsets.UTF_8);
+    }
+
+    /*
+    Circuit이 열려 있으면 닫힐 때까지 기다린 뒤, KamisRequestThrottle의 허용 범위 안에서 호출
+    - HTML 에러 응답, 에러 코드 응답, 파싱 실패도 실패로 기록
+    - 시험 요청을 받은 뒤 Throttle 대기 중에 중단되면 시험 요청을 돌려줌
+     */
+    private <T> T exchange(String url, ResponseExtractor<T> responseExtractor) {
+        boolean trial = false;
+        try {
+            trial = kamisCircuitBreaker.awaitPermission();
+            kamisRequestThrottle.acquire();
+        } catch (InterruptedException e) {
+            if (trial) {
+                kamisCircuitBreaker.cancelTrial();
+            }
+            Thread.currentThread().interrupt();
+            throw new GeneralException("KAMIS API 호출 대기 중 중단", e);
+        }
+
+        long startedAt = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            T result = restTemplate.execute(url, HttpMethod.GET, null, responseExtractor);
+            succeeded = true;
+            return result;
+        } finally {
+            kamisRequestThrottle.release(succeeded, (System.nanoTime() - startedAt) / 1_000_000);
+            if (succeeded) {
+                kamisCircuitBreaker.onSuccess();
+            } else {
+                kamisCircuitBreaker.onFailure();
+            }
         }
     }
 
     private String buildApiUrl(LocalDate date, String categoryCode) {
-        return UriComponentsBuilder.fromHttpUrl(KAMIS_DAILY_PRICE_URL)
-                .queryParam("action", "dailyPriceByCategoryList")
-                .queryParam("p_product_cls_code", "02") // 01: 소매, 02: 도매
+        return UriComponentsBuilder.fromHttpUrl(dailyPriceUrl)
+                .queryParam("action", DAILY_PRICE_ACTION)
+                .queryParam("p_product_cls_code", PRODUCT_CLS_CODE)
                 .queryParam("p_regday", DateUtils.formatForApi(date))
                 .queryParam("p_convert_kg_yn", "N")
                 .queryParam("p_item_category_code", categoryCode)
@@ -0,0 +1,117 @@
+package com.yachaerang.batch.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+KAMIS 호출용 Circuit Breaker (모든 Job/Partition이 공유)
+- 연속 실패가 failure-threshold번이면 open-ms 동안 요청을 보내지 않음 (OPEN)
+- 대기 시간이 지나면 한 요청만 시험으로 보내고(HALF_OPEN), 성공하면 다시 정상(CLOSED), 실패하면 대기 시간을 두 배로 늘려 다시 OPEN
+- 요청을 막는 대신 열릴 때까지 기다리게 하여, KAMIS가 잠시 불안정해도 카테고리가 빠지지 않도록 함
+- 시험 요청을 받은 호출이 요청을 보내지 못하면 cancelTrial로 다시 OPEN (HALF_OPEN에 멈추지 않도록)
+ */
+@Slf4j
+@Component
+public class KamisCircuitBreaker {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    // HALF_OPEN에서 시험 요청 결과를 기다리는 다른 요청의 확인 주기
+    private static final long HALF_OPEN_POLL_MILLIS = 200;
+    // tryAcquire에서 시험 요청 허가를 나타내는 값
+    private static final long TRIAL_PERMIT = -1;
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final long maxOpenMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long currentOpenMillis;
+    private long openUntil;
+
+    public KamisCircuitBreaker(
+            @Value("${external.kamis.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${external.kamis.circuit.open-ms:30000}") long openMillis,
+            @Value("${external.kamis.circuit.max-open-ms:300000}") long maxOpenMillis) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failure-threshold는 1 이상이어야 합니다: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.maxOpenMillis = Math.max(openMillis, maxOpenMillis);
+        this.currentOpenMillis = openMillis;
+    }
+
+    /*
+    요청을 보내도 될 때까지 대기, 시험 요청(HALF_OPEN)으로 보내게 되면 true
+     */
+    public boolean awaitPermission() throws InterruptedException {
+        long waitMillis;
+        while ((waitMillis = tryAcquire()) > 0) {
+            Thread.sleep(waitMillis);
+        }
+        return waitMillis == TRIAL_PERMIT;
+    }
+
+    /*
+    시험 요청을 보내지 못한 경우 다시 OPEN, KAMIS의 실패가 아니므로 대기 없이 다음 호출이 시험 요청을 보냄
+     */
+    public synchronized void cancelTrial() {
+        if (state != State.HALF_OPEN) {
+            return;
+        }
+        state = State.OPEN;
+        openUntil = System.currentTimeMillis();
+        log.info("KAMIS Circuit OPEN (시험 요청 취소)");
+    }
+
+    public synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("KAMIS Circuit CLOSED (시험 요청 성공)");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        currentOpenMillis = openMillis;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN) {
+            currentOpenMillis = Math.min(maxOpenMillis, currentOpenMillis * 2);
+            open();
+        } else if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    public synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    /*
+    보낼 수 있으면 0, 시험 요청이면 TRIAL_PERMIT, 아니면 다시 확인할 때까지 기다릴 시간(ms)
+     */
+    private synchronized long tryAcquire() {
+        if (state == State.CLOSED) {
+            return 0;
+        }
+        if (state == State.HALF_OPEN) {
+            return HALF_OPEN_POLL_MILLIS;
+        }
+        long remaining = openUntil - System.currentTimeMillis();
+        if (remaining > 0) {
+            return remaining;
+        }
+        state = State.HALF_OPEN;
+        log.info("KAMIS Circuit HALF_OPEN (시험 요청 전송)");
+        return TRIAL_PERMIT;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openUntil = System.currentTimeMillis() + currentOpenMillis;
+        log.warn("KAMIS Circuit OPEN: 연속 실패 {}회, {} ms 동안 요청 중단", consecutiveFailures, currentOpenMillis);
+    }
+}
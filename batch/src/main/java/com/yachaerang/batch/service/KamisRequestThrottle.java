@@ -0,0 +1,146 @@
+package com.yachaerang.batch.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+KAMIS로 나가는 요청의 동시 요청 수와 초당 요청 수를 응답 상태에 따라 조절 (AIMD)
+- 초당 요청 수는 Token Bucket으로 제한 (최대 1초 분량까지 몰아서 보낼 수 있음)
+- 실패하거나 응답이 slow-response-ms보다 느리면 동시 요청 수와 초당 요청 수를 절반으로 줄임 (최소 1, min-rate)
+- 정상 응답이면 초당 요청 수를 조금씩 늘리고, 현재 허용 수만큼 연속으로 정상 응답하면 동시 요청 수를 하나 늘림
+- 여러 Job/Partition이 같은 인스턴스를 공유하므로 전체 KAMIS 요청에 대해 적용됨
+ */
+@Slf4j
+@Component
+public class KamisRequestThrottle {
+
+    // 정상 응답 한 건마다 늘리는 초당 요청 수
+    private static final double RATE_INCREASE_PER_SUCCESS = 0.1;
+
+    private final int maxConcurrency;
+    private final long slowResponseMillis;
+    private final double maxRate;
+    private final double minRate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private int limit;
+    private int inFlight;
+    private int successStreak;
+
+    private double rate;
+    private double tokens;
+    private long lastRefillAt;
+
+    public KamisRequestThrottle(
+            @Value("${external.kamis.max-concurrency:6}") int maxConcurrency,
+            @Value("${external.kamis.slow-response-ms:5000}") long slowResponseMillis,
+            @Value("${external.kamis.max-rate:10}") double maxRate,
+            @Value("${external.kamis.min-rate:0.5}") double minRate) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("max-concurrency는 1 이상이어야 합니다: " + maxConcurrency);
+        }
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException("0 < min-rate <= max-rate 이어야 합니다: " + minRate + ", " + maxRate);
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.slowResponseMillis = slowResponseMillis;
+        this.maxRate = maxRate;
+        this.minRate = minRate;
+        this.limit = maxConcurrency;
+        this.rate = maxRate;
+        this.tokens = 1;
+        this.lastRefillAt = System.nanoTime();
+    }
+
+    /*
+    요청 전 호출, 동시 요청 수가 가득 찼거나 Token이 없으면 대기
+     */
+    public void acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                refill();
+                if (inFlight < limit && tokens >= 1) {
+                    tokens -= 1;
+                    inFlight++;
+                    return;
+                }
+                if (inFlight >= limit) {
+                    permitReleased.await();
+                } else {
+                    long waitNanos = (long) Math.ceil((1 - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+                    permitReleased.awaitNanos(waitNanos);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /*
+    요청이 끝나면 결과와 소요 시간을 전달하여 허용 수 조절
+     */
+    public void release(boolean succeeded, long elapsedMillis) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (!succeeded || elapsedMillis > slowResponseMillis) {
+                successStreak = 0;
+                refill();
+                rate = Math.max(minRate, rate / 2);
+                tokens = Math.min(tokens, capacity());
+                if (limit > 1) {
+                    limit = Math.max(1, limit / 2);
+                }
+                log.warn("KAMIS 요청 감속: 동시 {}개, 초당 {} (succeeded={}, {} ms)",
+                        limit, String.format("%.2f", rate), succeeded, elapsedMillis);
+            } else {
+                refill();
+                rate = Math.min(maxRate, rate + RATE_INCREASE_PER_SUCCESS);
+                if (limit < maxConcurrency && ++successStreak >= limit) {
+                    successStreak = 0;
+                    limit++;
+                    log.info("KAMIS 동시 요청 수 증가: {}", limit);
+                }
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getRate() {
+        lock.lock();
+        try {
+            return rate;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity(), tokens + (now - lastRefillAt) * rate / TimeUnit.SECONDS.toNanos(1));
+        lastRefillAt = now;
+    }
+
+    private double capacity() {
+        return Math.max(1, rate);
+    }
+}
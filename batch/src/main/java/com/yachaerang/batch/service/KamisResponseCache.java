@@ -0,0 +1,219 @@
+package com.yachaerang.batch.service;
+
+import com.yachaerang.batch.exception.GeneralException;
+import com.yachaerang.batch.util.DateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/*
+KAMIS 원본 응답을 로컬 디스크에 gzip으로 보관하는 캐시
+- 요청 조건(action, 도/소매 구분, 카테고리, 날짜)의 SHA-256을 파일 이름으로 사용
+- 지난 날짜의 도매 가격은 바뀌지 않으므로, 오늘 이전 날짜의 정상 응답만 보관
+- 데이터 없음(001) 응답은 KAMIS가 늦게 가격을 올리는 경우가 있어 no-data-settle-days가 지난 날짜만 보관
+- 읽을 수 없는 캐시 파일은 지우고 네트워크로 다시 조회
+- offline이면 네트워크를 쓰지 않고 캐시에 있는 응답만 사용 (기간 재처리, 네트워크 없는 테스트용)
+ */
+@Slf4j
+@Component
+public class KamisResponseCache {
+
+    private final boolean enabled;
+    private final boolean offline;
+    private final Path directory;
+    private final int noDataSettleDays;
+
+    public KamisResponseCache(
+            @Value("${external.kamis.cache.enabled:false}") boolean enabled,
+            @Value("${external.kamis.cache.offline:false}") boolean offline,
+            @Value("${external.kamis.cache.dir:kamis-cache}") String directory,
+            @Value("${external.kamis.cache.no-data-settle-days:7}") int noDataSettleDays) {
+        this.enabled = enabled || offline;
+        this.offline = offline;
+        this.directory = Paths.get(directory);
+        this.noDataSettleDays = noDataSettleDays;
+        if (this.enabled) {
+            log.info("KAMIS 응답 캐시 사용: dir={}, offline={}", this.directory.toAbsolutePath(), offline);
+        }
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /*
+    요청 조건으로 캐시 키 생성
+     */
+    public String key(String action, String productClsCode, String categoryCode, LocalDate date) {
+        String source = String.join("|", action, productClsCode, categoryCode, DateUtils.formatForApi(date));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /*
+    보관된 응답을 압축을 풀어서 반환, 없으면 null
+     */
+    public InputStream open(String key) {
+        if (!enabled) {
+            return null;
+        }
+        Path file = path(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        InputStream in = null;
+        try {
+            in = Files.newInputStream(file);
+            return new GZIPInputStream(in);
+        } catch (IOException e) {
+            log.warn("KAMIS 캐시 읽기 실패, 네트워크로 조회: file={}, error={}", file, e.getMessage());
+            closeQuietly(in);
+            invalidate(key);
+            return null;
+        }
+    }
+
+    /*
+    읽다가 실패한 캐시 파일 삭제 (다음 조회는 네트워크로)
+     */
+    public void invalidate(String key) {
+        Path file = path(key);
+        try {
+            if (Files.deleteIfExists(file)) {
+                log.warn("KAMIS 캐시 파일 삭제: {}", file);
+            }
+        } catch (IOException e) {
+            log.warn("KAMIS 캐시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    /*
+    해당 날짜의 응답을 보관할 수 있는지 (오늘 이전 날짜만)
+     */
+    public boolean isCacheable(LocalDate date) {
+        return enabled && date.isBefore(LocalDate.now());
+    }
+
+    /*
+    해당 날짜의 데이터 없음(001) 응답을 보관할 수 있는지 (no-data-settle-days보다 지난 날짜만)
+     */
+    public boolean isNoDataCacheable(LocalDate date) {
+        return enabled && date.isBefore(LocalDate.now().minusDays(noDataSettleDays));
+    }
+
+    /*
+    응답을 읽으면서 임시 파일에 그대로 기록, commit 해야 캐시에 반영됨
+     */
+    public Recording record(String key, InputStream body) {
+        try {
+            Path file = path(key);
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key, ".tmp");
+            return new Recording(body, temp, file);
+        } catch (IOException e) {
+            throw new GeneralException("KAMIS 캐시 파일 생성 실패: " + key, e);
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        if (in == null) {
+            return;
+        }
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 이미 실패한 캐시 파일이므로 무시
+        }
+    }
+
+    // 한 디렉토리에 파일이 너무 많아지지 않도록 키 앞 두 글자로 나눔
+    private Path path(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ".json.gz");
+    }
+
+    /*
+    읽은 byte를 gzip 임시 파일에도 쓰는 InputStream
+    - commit 시 임시 파일을 캐시 파일로 옮기고, commit 없이 닫히면 임시 파일 삭제
+     */
+    public static class Recording extends FilterInputStream {
+
+        private final Path temp;
+        private final Path target;
+        private final OutputStream copy;
+        private boolean committed;
+
+        private Recording(InputStream body, Path temp, Path target) throws IOException {
+            super(body);
+            this.temp = temp;
+            this.target = target;
+            this.copy = new GZIPOutputStream(Files.newOutputStream(temp));
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                copy.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                copy.write(buffer, offset, read);
+            }
+            return read;
+        }
+
+        /*
+        Parser가 닫아도 commit에서 남은 body를 읽을 수 있도록 원본은 닫지 않음 (응답 연결은 RestTemplate이 닫음)
+         */
+        @Override
+        public void close() {
+        }
+
+        /*
+        남은 body까지 기록한 뒤 캐시 파일로 반영
+         */
+        public void commit() throws IOException {
+            transferTo(OutputStream.nullOutputStream());
+            copy.close();
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        public void discard() {
+            if (committed) {
+                return;
+            }
+            try {
+                copy.close();
+                Files.deleteIfExists(temp);
+            } catch (IOException e) {
+                log.warn("KAMIS 캐시 임시 파일 삭제 실패: {}", temp, e);
+            }
+        }
+    }
+}
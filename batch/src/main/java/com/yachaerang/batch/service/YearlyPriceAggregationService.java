@@ -1,13 +1,17 @@
 package com.yachaerang.batch.service;
 
 import com.yachaerang.batch.domain.entity.YearlyPrice;
+import com.yachaerang.batch.repository.ProductRepository;
 import com.yachaerang.batch.repository.YearlyPriceRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -15,15 +19,34 @@ import java.util.List;
 public class YearlyPriceAggregationService {
 
     private final YearlyPriceRepository yearlyPriceRepository;
+    private final ProductRepository productRepository;
 
     /**
      * 연간 집계 데이터 조회
+     * - 월간 집계가 그 해 일별 가격을 모두 덮는 상품은 월간 데이터로 집계
+     * - 나머지 상품(빠진 달이 있거나 월간 집계 후 일별 가격이 추가된 상품)만 일별 데이터로 집계
      */
     public List<YearlyPrice> getYearlyAggregatedPrices(int year) {
         log.info("연간 집계 데이터 조회 - 연도: {}", year);
 
-        List<YearlyPrice> result = yearlyPriceRepository.selectYearlyAggregatedPrices(year);
-        log.info("조회된 집계 데이터: {} 건", result.size());
+        List<YearlyPrice> result = new ArrayList<>(yearlyPriceRepository.selectYearlyAggregatedPricesFromMonthly(year));
+        if (result.isEmpty()) {
+            log.info("월간 집계가 없어 일별 데이터로 집계 - 연도: {}", year);
+            result = yearlyPriceRepository.selectYearlyAggregatedPrices(year, null);
+            log.info("조회된 집계 데이터: {} 건", result.size());
+            return result;
+        }
+
+        Set<String> uncoveredProductCodes = new HashSet<>(productRepository.findAllProductCodes());
+        for (YearlyPrice yearlyPrice : result) {
+            uncoveredProductCodes.remove(yearlyPrice.getProductCode());
+        }
+        int fromMonthly = result.size();
+        if (!uncoveredProductCodes.isEmpty()) {
+            result.addAll(yearlyPriceRepository.selectYearlyAggregatedPrices(year, uncoveredProductCodes));
+        }
+        log.info("조회된 집계 데이터: {} 건 (월간 집계 {} 건, 일별 집계 {} 건)",
+                result.size(), fromMonthly, result.size() - fromMonthly);
 
         return result;
     }
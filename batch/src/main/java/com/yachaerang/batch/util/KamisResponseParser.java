@@ -0,0 +1,85 @@
+package com.yachaerang.batch.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yachaerang.batch.domain.dto.KamisPriceItem;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/*
+KAMIS 일별 가격 응답을 InputStream에서 바로 읽는 Streaming Parser
+- 응답 전체를 String이나 JsonNode로 만들지 않고, data.item 배열의 원소를 하나씩 KamisPriceItem으로 변환하여 넘겨줌
+- 데이터가 없으면 KAMIS는 data를 객체 대신 ["001"] 같은 배열로 보내므로, 이 경우 배열의 첫 값을 error_code로 봄
+ */
+@Component
+@RequiredArgsConstructor
+public class KamisResponseParser {
+
+    private final ObjectMapper objectMapper;
+
+    /*
+    응답을 읽으면서 item마다 consumer 호출, error_code와 item 개수 반환
+     */
+    public Result parse(InputStream body, Consumer<KamisPriceItem> consumer) throws IOException {
+        Result result = new Result();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("KAMIS 응답이 JSON 객체가 아닙니다: " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("data".equals(field) && value == JsonToken.START_OBJECT) {
+                    result.dataPresent = true;
+                    readData(parser, consumer, result);
+                } else if ("data".equals(field) && value == JsonToken.START_ARRAY) {
+                    result.dataPresent = true;
+                    readSentinel(parser, result);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void readData(JsonParser parser, Consumer<KamisPriceItem> consumer, Result result) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("error_code".equals(field)) {
+                result.errorCode = parser.getValueAsString();
+            } else if ("item".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    consumer.accept(objectMapper.readValue(parser, KamisPriceItem.class));
+                    result.itemCount++;
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readSentinel(JsonParser parser, Result result) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (result.errorCode == null && token.isScalarValue()) {
+                result.errorCode = parser.getValueAsString();
+            }
+            parser.skipChildren();
+        }
+    }
+
+    @Getter
+    public static class Result {
+        private boolean dataPresent;
+        private String errorCode;
+        private int itemCount;
+    }
+}
@@ -0,0 +1,124 @@
+package com.yachaerang.batch.configuration.job;
+
+import com.yachaerang.batch.service.KamisApiService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+Daily Price Job 처리량 측정
+- Meta/Data DB는 H2, KAMIS는 같은 서버의 KamisStubController (카테고리당 1000건, 지연 없음)
+- 직전 가격이 있는 상태를 만들기 위해 전날을 한 번 실행한 뒤, 대상 날짜의 실행 시간으로 건/초를 계산
+ */
+@SpringBatchTest
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"kamis-stub", "test"})
+class DailyPriceJobPerformanceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyPriceJobPerformanceTest.class);
+
+    private static final int CATEGORY_COUNT = 6;
+    private static final int ITEMS_PER_CATEGORY = 1000;
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 11, 4);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier("dailyPriceJob")
+    private Job dailyPriceJob;
+
+    @Autowired
+    private KamisApiService kamisApiService;
+
+    @Autowired
+    @Qualifier("dataSource")
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        // RANDOM_PORT는 서버가 뜬 뒤에 정해지므로 Stub 주소를 여기서 지정
+        ReflectionTestUtils.setField(kamisApiService, "dailyPriceUrl",
+                "http://localhost:" + port + "/service/price/xml.do");
+        jobLauncherTestUtils.setJob(dailyPriceJob);
+    }
+
+    @Test
+    @DisplayName("카테고리 Partition으로 Stub KAMIS 가격을 저장하고 처리량을 기록")
+    void 일별가격_Job_처리량() throws Exception {
+        // given : 전날 가격 저장 (신규 상품 등록 포함)
+        JobExecution warmUp = jobLauncherTestUtils.launchJob(parameters(TARGET_DATE.minusDays(1)));
+        assertThat(warmUp.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // when
+        JobExecution execution = jobLauncherTestUtils.launchJob(parameters(TARGET_DATE));
+
+        // then
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        long readCount = workerSteps(execution).mapToLong(StepExecution::getReadCount).sum();
+        long writeCount = workerSteps(execution).mapToLong(StepExecution::getWriteCount).sum();
+        long skipCount = workerSteps(execution).mapToLong(StepExecution::getSkipCount).sum();
+        assertThat(workerSteps(execution).count()).isEqualTo(CATEGORY_COUNT);
+        assertThat(readCount).isEqualTo(CATEGORY_COUNT * ITEMS_PER_CATEGORY);
+        assertThat(writeCount).isEqualTo(readCount);
+        assertThat(skipCount).isZero();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM daily_price WHERE price_date = ?", Long.class, TARGET_DATE))
+                .isEqualTo(writeCount);
+        // 전날 가격이 있으므로 모든 상품에 전일 대비 변화량이 계산됨
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM daily_price WHERE price_date = ? AND price_change IS NULL", Long.class, TARGET_DATE))
+                .isZero();
+        // 같은 주/월/연도의 두 날짜가 하나의 집계 행으로 합쳐짐
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM monthly_price WHERE price_year = ? AND price_month = ? AND price_count = 2",
+                Long.class, TARGET_DATE.getYear(), TARGET_DATE.getMonthValue()))
+                .isEqualTo(writeCount);
+
+        long elapsedMillis = Math.max(1, Duration.between(execution.getStartTime(), execution.getEndTime()).toMillis());
+        log.info("dailyPriceJob 처리량: {} 건, {} ms, {} 건/초",
+                writeCount, elapsedMillis, writeCount * 1000 / elapsedMillis);
+    }
+
+    private JobParameters parameters(LocalDate targetDate) {
+        return new JobParametersBuilder()
+                .addString("targetDate", targetDate.toString())
+                .toJobParameters();
+    }
+
+    // Partition의 Worker Step만 (Manager Step 제외)
+    private Stream<StepExecution> workerSteps(JobExecution execution) {
+        return execution.getStepExecutions().stream()
+                .filter(stepExecution -> stepExecution.getStepName().startsWith("dailyPriceStep:"));
+    }
+}
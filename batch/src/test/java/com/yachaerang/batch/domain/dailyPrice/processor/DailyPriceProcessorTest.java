@@ -0,0 +1,238 @@
+package com.yachaerang.batch.domain.dailyPrice.processor;
+
+import com.yachaerang.batch.domain.dto.KamisPriceItem;
+import com.yachaerang.batch.domain.entity.DailyPrice;
+import com.yachaerang.batch.domain.entity.Product;
+import com.yachaerang.batch.repository.DailyPriceRepository;
+import com.yachaerang.batch.repository.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DailyPriceProcessorTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 11, 4);
+    private static final String CATEGORY_CODE = "100";
+    private static final String PREFIX = "KM-1";
+    private static final String PRODUCT_CODE = "KM-111-01-04";
+    private static final String NEW_PRODUCT_CODE = "KM-112-00-04";
+
+    @Mock private ProductRepository productRepository;
+
+    @Mock private DailyPriceRepository dailyPriceRepository;
+
+    @Test
+    @DisplayName("Step 시작 시 카테고리 접두사로 상품, 기존 가격, 직전 가격을 한 번씩 조회")
+    void beforeStep_카테고리_범위_조회() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE, List.of(), List.of(), List.of());
+
+        // when
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // then
+        verify(productRepository).findProductCodesByPrefix(PREFIX);
+        verify(dailyPriceRepository).findProductCodesByPriceDate(TARGET_DATE, PREFIX);
+        verify(dailyPriceRepository).findLatestPricesBefore(TARGET_DATE, PREFIX);
+        verify(productRepository, never()).findAllProductCodes();
+    }
+
+    @Test
+    @DisplayName("카테고리가 없으면 전체 상품 기준으로 조회")
+    void beforeStep_카테고리없음_전체_조회() {
+        // given
+        given(productRepository.findAllProductCodes()).willReturn(List.of(PRODUCT_CODE));
+        given(dailyPriceRepository.findProductCodesByPriceDate(TARGET_DATE, null)).willReturn(List.of());
+        given(dailyPriceRepository.findLatestPricesBefore(TARGET_DATE, null)).willReturn(List.of());
+        DailyPriceProcessor processor = new DailyPriceProcessor(productRepository, dailyPriceRepository, TARGET_DATE, null);
+
+        // when
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // then
+        verify(productRepository, never()).findProductCodesByPrefix(any());
+        assertThat(processor.process(item("111", "01", "04", "1,000"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("이미 저장된 (상품, 날짜)는 건너뜀")
+    void 기존_상품날짜_건너뜀() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE,
+                List.of(PRODUCT_CODE), List.of(PRODUCT_CODE), List.of());
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // when
+        DailyPrice result = processor.process(item("111", "01", "04", "1,000"));
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    @DisplayName("가격이 없는 항목은 건너뜀")
+    void 가격없음_건너뜀() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE, List.of(PRODUCT_CODE), List.of(), List.of());
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // when & then
+        assertThat(processor.process(item("111", "01", "04", "-"))).isNull();
+    }
+
+    @Test
+    @DisplayName("처음 보는 상품은 한 번만 대기열에 넣고 쓰기 직전에 한 번에 저장")
+    void 신규상품_한번만_저장() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE, List.of(PRODUCT_CODE), List.of(), List.of());
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // when
+        DailyPrice first = processor.process(item("112", "00", "04", "2,000"));
+        DailyPrice second = processor.process(item("112", "00", "04", "2,000"));
+        processor.process(item("111", "01", "04", "1,000"));
+        Chunk<DailyPrice> chunk = Chunk.of(first, second);
+        processor.beforeWrite(chunk);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Product>> saved = ArgumentCaptor.forClass(List.class);
+        verify(productRepository).saveAll(saved.capture());
+        assertThat(saved.getValue())
+                .extracting(Product::getProductCode)
+                .containsExactly(NEW_PRODUCT_CODE);
+        assertThat(saved.getValue().get(0).getItemCode()).isEqualTo("112");
+
+        // when : 쓰기에 성공한 뒤의 Chunk에서는 다시 저장하지 않음
+        processor.afterWrite(chunk);
+        processor.beforeWrite(Chunk.of());
+
+        // then
+        verify(productRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("신규 상품이 없으면 쓰기 직전에 상품을 저장하지 않음")
+    void 신규상품_없으면_저장안함() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE, List.of(PRODUCT_CODE), List.of(), List.of());
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // when
+        processor.beforeWrite(Chunk.of(processor.process(item("111", "01", "04", "1,000"))));
+
+        // then
+        verify(productRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("미리 읽은 직전 가격으로 전일 대비 변화량과 변화율을 계산")
+    void 직전가격_기준_변화량() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE, List.of(PRODUCT_CODE), List.of(),
+                List.of(latest(PRODUCT_CODE, 1_000L)));
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // when
+        DailyPrice result = processor.process(item("111", "01", "04", "1,100"));
+
+        // then
+        assertThat(result.getProductCode()).isEqualTo(PRODUCT_CODE);
+        assertThat(result.getPriceDate()).isEqualTo(TARGET_DATE);
+        assertThat(result.getPrice()).isEqualTo(1_100L);
+        assertThat(result.getPriceChange()).isEqualTo(100L);
+        assertThat(result.getPriceChangeRate()).isEqualByComparingTo("10");
+    }
+
+    @Test
+    @DisplayName("직전 가격이 없으면 변화량과 변화율은 0")
+    void 직전가격_없음() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE, List.of(PRODUCT_CODE), List.of(), List.of());
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // when
+        DailyPrice result = processor.process(item("111", "01", "04", "1,100"));
+
+        // then
+        assertThat(result.getPriceChange()).isZero();
+        assertThat(result.getPriceChangeRate()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("직전 가격이 0이면 나누지 않고 변화량과 변화율은 0")
+    void 직전가격_0() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE, List.of(PRODUCT_CODE), List.of(),
+                List.of(latest(PRODUCT_CODE, 0L)));
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+
+        // when
+        DailyPrice result = processor.process(item("111", "01", "04", "1,100"));
+
+        // then
+        assertThat(result.getPriceChange()).isZero();
+        assertThat(result.getPriceChangeRate()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("쓰기에 성공한 상품은 저장된 것으로 기록되어 같은 Step에서 다시 처리하지 않음")
+    void afterWrite_저장기록() {
+        // given
+        DailyPriceProcessor processor = processor(CATEGORY_CODE, List.of(PRODUCT_CODE), List.of(), List.of());
+        processor.beforeStep(MetaDataInstanceFactory.createStepExecution());
+        DailyPrice written = processor.process(item("111", "01", "04", "1,000"));
+
+        // when
+        processor.afterWrite(Chunk.of(written));
+
+        // then
+        assertThat(processor.process(item("111", "01", "04", "1,000"))).isNull();
+    }
+
+    private DailyPriceProcessor processor(String categoryCode,
+                                          List<String> productCodes,
+                                          List<String> savedProductCodes,
+                                          List<DailyPrice> latestPrices) {
+        given(productRepository.findProductCodesByPrefix(PREFIX)).willReturn(productCodes);
+        given(dailyPriceRepository.findProductCodesByPriceDate(TARGET_DATE, PREFIX)).willReturn(savedProductCodes);
+        given(dailyPriceRepository.findLatestPricesBefore(TARGET_DATE, PREFIX)).willReturn(latestPrices);
+        return new DailyPriceProcessor(productRepository, dailyPriceRepository, TARGET_DATE, categoryCode);
+    }
+
+    private DailyPrice latest(String productCode, long price) {
+        return DailyPrice.builder()
+                .productCode(productCode)
+                .price(price)
+                .build();
+    }
+
+    private KamisPriceItem item(String itemCode, String kindCode, String rankCode, String price) {
+        KamisPriceItem item = new KamisPriceItem();
+        item.setItemName("품목" + itemCode);
+        item.setItemCode(itemCode);
+        item.setKindName("품종" + kindCode);
+        item.setKindCode(kindCode);
+        item.setRank("상품");
+        item.setRankCode(rankCode);
+        item.setUnit("1kg");
+        item.setDpr1(price);
+        return item;
+    }
+}
@@ -0,0 +1,160 @@
+package com.yachaerang.batch.domain.dailyPrice.writer;
+
+import com.yachaerang.batch.domain.entity.DailyPrice;
+import com.yachaerang.batch.repository.DailyPriceRepository;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+일별 가격 쓰기 방식 비교 (같은 데이터, H2)
+- foreach : Chunk 전체를 foreach로 만든 multi-row INSERT 한 문장으로 저장 (saveAll)
+- batch   : DailyPriceWriter처럼 ExecutorType.BATCH로 upsert를 writeBatchSize개씩 묶어서 실행
+- 집계 반영은 두 방식이 같으므로 빼고, daily_price 저장만 측정
+- H2에서는 MySQL 드라이버의 rewriteBatchedStatements가 없으므로 수치는 두 방식의 상대 비교로만 사용
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DailyPriceWriteBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyPriceWriteBenchmarkTest.class);
+
+    private static final String PRODUCT_CODE_PREFIX = "KM-BENCH-";
+    private static final int PRODUCT_COUNT = 3000;
+    private static final int CHUNK_SIZE = 500;
+    private static final int WRITE_BATCH_SIZE = 100;
+    private static final int ROUNDS = 3;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2023, 1, 2);
+
+    @Autowired
+    private DailyPriceRepository dailyPriceRepository;
+
+    @Autowired
+    @Qualifier("dataSqlSessionFactory")
+    private SqlSessionFactory dataSqlSessionFactory;
+
+    @Autowired
+    @Qualifier("dataSource")
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.batchUpdate("INSERT INTO product (name, product_code) VALUES (?, ?)",
+                IntStream.range(0, PRODUCT_COUNT)
+                        .mapToObj(i -> new Object[]{"benchmark " + i, productCode(i)})
+                        .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // daily_price는 product를 ON DELETE CASCADE로 참조
+        jdbcTemplate.update("DELETE FROM product WHERE product_code LIKE ?", PRODUCT_CODE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("같은 데이터를 foreach multi-row INSERT와 BATCH upsert로 저장하여 처리량 비교")
+    void 쓰기방식_처리량_비교() {
+        // given : 처음 한 번씩은 JIT/H2 준비용으로 측정하지 않음
+        LocalDate date = FIRST_DATE;
+        writeAndCount(prices(date), this::writeWithForeach);
+        date = date.plusDays(1);
+        writeAndCount(prices(date), this::writeInBatches);
+
+        // when : 방식마다 새 날짜로 ROUNDS번씩 번갈아 측정
+        long foreachNanos = 0;
+        long batchNanos = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            date = date.plusDays(1);
+            foreachNanos += writeAndCount(prices(date), this::writeWithForeach);
+            date = date.plusDays(1);
+            batchNanos += writeAndCount(prices(date), this::writeInBatches);
+        }
+
+        // then
+        long items = (long) PRODUCT_COUNT * ROUNDS;
+        log.info("일별 가격 쓰기 비교 ({} 건 x {} 회, chunk={}, writeBatchSize={}): foreach {} 건/초, batch {} 건/초",
+                PRODUCT_COUNT, ROUNDS, CHUNK_SIZE, WRITE_BATCH_SIZE,
+                itemsPerSecond(items, foreachNanos), itemsPerSecond(items, batchNanos));
+    }
+
+    /*
+    쓰기 시간(ns)을 반환, 저장된 건수가 데이터 수와 같은지 확인
+     */
+    private long writeAndCount(List<DailyPrice> prices, Consumer<List<DailyPrice>> writer) {
+        long startedAt = System.nanoTime();
+        for (int from = 0; from < prices.size(); from += CHUNK_SIZE) {
+            writer.accept(prices.subList(from, Math.min(from + CHUNK_SIZE, prices.size())));
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM daily_price WHERE price_date = ? AND product_code LIKE ?",
+                Long.class, prices.get(0).getPriceDate(), PRODUCT_CODE_PREFIX + "%"))
+                .isEqualTo(prices.size());
+        return elapsedNanos;
+    }
+
+    private void writeWithForeach(List<DailyPrice> chunk) {
+        assertThat(dailyPriceRepository.saveAll(chunk)).isEqualTo(chunk.size());
+    }
+
+    private void writeInBatches(List<DailyPrice> chunk) {
+        try (SqlSession sqlSession = dataSqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            DailyPriceRepository batchRepository = sqlSession.getMapper(DailyPriceRepository.class);
+            for (int i = 0; i < chunk.size(); i++) {
+                batchRepository.upsert(chunk.get(i));
+                if ((i + 1) % WRITE_BATCH_SIZE == 0) {
+                    sqlSession.flushStatements();
+                }
+            }
+            sqlSession.flushStatements();
+            sqlSession.commit();
+        }
+    }
+
+    private List<DailyPrice> prices(LocalDate priceDate) {
+        List<DailyPrice> prices = new ArrayList<>(PRODUCT_COUNT);
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            prices.add(DailyPrice.builder()
+                    .productCode(productCode(i))
+                    .priceDate(priceDate)
+                    .price(1000L + i)
+                    .priceChange(0L)
+                    .priceChangeRate(BigDecimal.ZERO)
+                    .build());
+        }
+        return prices;
+    }
+
+    private String productCode(int index) {
+        return PRODUCT_CODE_PREFIX + index;
+    }
+
+    private long itemsPerSecond(long items, long nanos) {
+        return items * 1_000_000_000L / Math.max(1, nanos);
+    }
+}
@@ -0,0 +1,159 @@
+package com.yachaerang.batch.domain.dailyPrice.writer;
+
+import com.yachaerang.batch.domain.entity.DailyPrice;
+import com.yachaerang.batch.event.PriceUpdateTracker;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/*
+DailyPriceWriter의 주간/월간/연간 집계 반영 (운영 mapper를 H2에서 실행)
+- 다른 테스트와 같은 메모리 DB를 쓰므로 전용 상품 코드만 쓰고 테스트마다 지움
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DailyPriceWriterTest {
+
+    private static final String PRODUCT_CODE = "KM-TEST-WRITER";
+    private static final LocalDate MONDAY = LocalDate.of(2024, 12, 30);
+
+    @Autowired
+    private PriceUpdateTracker priceUpdateTracker;
+
+    @Autowired
+    @Qualifier("dataSqlSessionFactory")
+    private SqlSessionFactory dataSqlSessionFactory;
+
+    @Autowired
+    @Qualifier("dataSource")
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private DailyPriceWriter dailyPriceWriter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO product (name, product_code) VALUES (?, ?)", "writer test", PRODUCT_CODE);
+        dailyPriceWriter = new DailyPriceWriter(priceUpdateTracker, dataSqlSessionFactory, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // daily/weekly/monthly/yearly는 product를 ON DELETE CASCADE로 참조
+        jdbcTemplate.update("DELETE FROM product WHERE product_code = ?", PRODUCT_CODE);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 (상품, 날짜)를 다시 써도 집계는 바뀌지 않음")
+    void 같은날짜_재저장시_집계유지() {
+        // given
+        dailyPriceWriter.write(Chunk.of(price(MONDAY, 100), price(MONDAY.plusDays(1), 200)));
+        List<Map<String, Object>> weekly = rows("weekly_price");
+        List<Map<String, Object>> monthly = rows("monthly_price");
+        List<Map<String, Object>> yearly = rows("yearly_price");
+
+        // when
+        dailyPriceWriter.write(Chunk.of(price(MONDAY.plusDays(1), 200)));
+        dailyPriceWriter.write(Chunk.of(price(MONDAY, 100), price(MONDAY.plusDays(1), 200)));
+
+        // then
+        assertThat(rows("weekly_price")).isEqualTo(weekly);
+        assertThat(rows("monthly_price")).isEqualTo(monthly);
+        assertThat(rows("yearly_price")).isEqualTo(yearly);
+        assertThat(weekly).singleElement().satisfies(row -> {
+            assertThat(row.get("PRICE_COUNT")).isEqualTo(2);
+            assertThat(row.get("PRICE_SUM")).isEqualTo(new BigDecimal("300"));
+            assertThat(row.get("AVG_PRICE")).isEqualTo(new BigDecimal("150.00"));
+        });
+    }
+
+    @Test
+    @DisplayName("가격이 바뀐 (상품, 날짜)를 다시 쓰면 집계를 바뀐 가격으로 다시 계산")
+    void 가격변경_재저장시_집계재계산() {
+        // given
+        dailyPriceWriter.write(Chunk.of(price(MONDAY.plusDays(2), 100), price(MONDAY.plusDays(3), 200)));
+
+        // when
+        dailyPriceWriter.write(Chunk.of(price(MONDAY.plusDays(3), 300)));
+
+        // then
+        Map<String, Object> monthly = jdbcTemplate.queryForMap(
+                "SELECT * FROM monthly_price WHERE product_code = ?", PRODUCT_CODE);
+        assertThat(monthly.get("PRICE_YEAR")).isEqualTo(2025);
+        assertThat(monthly.get("PRICE_MONTH")).isEqualTo(1);
+        assertThat(monthly.get("PRICE_COUNT")).isEqualTo(2);
+        assertThat(monthly.get("PRICE_SUM")).isEqualTo(new BigDecimal("400"));
+        assertThat(monthly.get("AVG_PRICE")).isEqualTo(new BigDecimal("200.00"));
+        assertThat(monthly.get("MIN_PRICE")).isEqualTo(new BigDecimal("100"));
+        assertThat(monthly.get("MAX_PRICE")).isEqualTo(new BigDecimal("300"));
+        assertThat(monthly.get("START_PRICE")).isEqualTo(new BigDecimal("100"));
+        assertThat(monthly.get("END_PRICE")).isEqualTo(new BigDecimal("300"));
+        assertThat(monthly.get("PRICE_CHANGE")).isEqualTo(200L);
+        assertThat(monthly.get("PRICE_CHANGE_RATE")).isEqualTo(new BigDecimal("200.00"));
+    }
+
+    @Test
+    @DisplayName("연도가 걸친 주차는 시작일(월요일)의 ISO 연도/주차로, 월간/연간은 날짜의 연도로 반영")
+    void 연도경계_주차() {
+        // when : 2024-12-30(월) ~ 2025-01-05(일)은 2025년 1주차
+        dailyPriceWriter.write(Chunk.of(price(MONDAY, 100), price(MONDAY.plusDays(2), 300)));
+
+        // then
+        Map<String, Object> weekly = jdbcTemplate.queryForMap(
+                "SELECT * FROM weekly_price WHERE product_code = ?", PRODUCT_CODE);
+        assertThat(weekly.get("PRICE_YEAR")).isEqualTo(2025);
+        assertThat(weekly.get("WEEK_NUMBER")).isEqualTo(1);
+        assertThat(weekly.get("START_DATE").toString()).isEqualTo("2024-12-30");
+        assertThat(weekly.get("END_DATE").toString()).isEqualTo("2025-01-05");
+        assertThat(weekly.get("PRICE_COUNT")).isEqualTo(2);
+        assertThat(weekly.get("START_PRICE")).isEqualTo(new BigDecimal("100"));
+        assertThat(weekly.get("END_PRICE")).isEqualTo(new BigDecimal("300"));
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT price_year, price_count FROM yearly_price WHERE product_code = ? ORDER BY price_year",
+                PRODUCT_CODE))
+                .extracting(row -> row.get("PRICE_YEAR"), row -> row.get("PRICE_COUNT"))
+                .containsExactly(
+                        tuple(2024, 1),
+                        tuple(2025, 1));
+    }
+
+    private DailyPrice price(LocalDate priceDate, long price) {
+        return DailyPrice.builder()
+                .productCode(PRODUCT_CODE)
+                .priceDate(priceDate)
+                .price(price)
+                .priceChange(0L)
+                .priceChangeRate(BigDecimal.ZERO)
+                .build();
+    }
+
+    // 갱신 시각을 뺀 집계 값
+    private List<Map<String, Object>> rows(String table) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT * FROM " + table + " WHERE product_code = ? ORDER BY price_year", PRODUCT_CODE);
+        rows.forEach(row -> {
+            row.remove("CREATED_AT");
+            row.remove("UPDATED_AT");
+        });
+        return rows;
+    }
+}
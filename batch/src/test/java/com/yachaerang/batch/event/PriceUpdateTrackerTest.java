@@ -0,0 +1,89 @@
+package com.yachaerang.batch.event;
+
+import com.yachaerang.batch.domain.entity.DailyPrice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PriceUpdateTrackerTest {
+
+    private final PriceUpdateTracker priceUpdateTracker = new PriceUpdateTracker();
+
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() {
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        StepSynchronizationManager.register(stepExecution);
+    }
+
+    @AfterEach
+    void tearDown() {
+        StepSynchronizationManager.close();
+    }
+
+    @Test
+    @DisplayName("일별 저장과 집계 반영을 기록하면 periodType마다 이벤트 하나씩 기록한 순서대로 반환")
+    void periodType별_이벤트() {
+        // given : 2024-12-31(화), 2025-01-02(목)는 같은 주차(2024-12-30 ~ 2025-01-05)
+        List<DailyPrice> items = List.of(
+                price("KM-111-01-04", LocalDate.of(2024, 12, 31)),
+                price("KM-112-00-04", LocalDate.of(2025, 1, 2)));
+
+        // when
+        priceUpdateTracker.recordDaily(items);
+        priceUpdateTracker.recordRollups(items);
+        List<PriceUpdateEvent> events = priceUpdateTracker.drain(jobExecution());
+
+        // then
+        assertThat(events)
+                .extracting(PriceUpdateEvent::getPeriodType, PriceUpdateEvent::getStartDate, PriceUpdateEvent::getEndDate)
+                .containsExactly(
+                        tuple("DAILY", LocalDate.of(2024, 12, 31), LocalDate.of(2025, 1, 2)),
+                        tuple("WEEKLY", LocalDate.of(2024, 12, 30), LocalDate.of(2025, 1, 5)),
+                        tuple("MONTHLY", LocalDate.of(2024, 12, 1), LocalDate.of(2025, 1, 31)),
+                        tuple("YEARLY", LocalDate.of(2024, 1, 1), LocalDate.of(2025, 12, 31)));
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getProductCodes()).containsExactly("KM-111-01-04", "KM-112-00-04");
+            assertThat(event.getJobExecutionId()).isEqualTo(stepExecution.getJobExecutionId());
+        });
+    }
+
+    @Test
+    @DisplayName("drain한 뒤에는 다시 반환하지 않고, 기록이 없으면 빈 목록")
+    void drain후_빈목록() {
+        // given
+        priceUpdateTracker.recordDaily(List.of(price("KM-111-01-04", LocalDate.of(2025, 11, 4))));
+
+        // when
+        List<PriceUpdateEvent> first = priceUpdateTracker.drain(jobExecution());
+        List<PriceUpdateEvent> second = priceUpdateTracker.drain(jobExecution());
+
+        // then
+        assertThat(first).extracting(PriceUpdateEvent::getPeriodType).containsExactly("DAILY");
+        assertThat(second).isEmpty();
+    }
+
+    private JobExecution jobExecution() {
+        return stepExecution.getJobExecution();
+    }
+
+    private DailyPrice price(String productCode, LocalDate priceDate) {
+        return DailyPrice.builder()
+                .productCode(productCode)
+                .priceDate(priceDate)
+                .price(1_000L)
+                .build();
+    }
+}
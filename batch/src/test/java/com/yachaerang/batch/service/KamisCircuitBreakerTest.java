@@ -0,0 +1,174 @@
+package com.yachaerang.batch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KamisCircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 100;
+
+    private final KamisCircuitBreaker kamisCircuitBreaker = new KamisCircuitBreaker(3, OPEN_MILLIS, 1_000);
+
+    @Test
+    @DisplayName("연속 실패가 기준보다 적으면 CLOSED 유지, 기준에 닿으면 OPEN")
+    void 연속실패_기준_OPEN() {
+        // when
+        kamisCircuitBreaker.onFailure();
+        kamisCircuitBreaker.onFailure();
+
+        // then
+        assertThat(kamisCircuitBreaker.isClosed()).isTrue();
+
+        // when
+        kamisCircuitBreaker.onFailure();
+
+        // then
+        assertThat(kamisCircuitBreaker.isClosed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수 초기화")
+    void 성공시_실패횟수_초기화() {
+        // when
+        kamisCircuitBreaker.onFailure();
+        kamisCircuitBreaker.onFailure();
+        kamisCircuitBreaker.onSuccess();
+        kamisCircuitBreaker.onFailure();
+        kamisCircuitBreaker.onFailure();
+
+        // then
+        assertThat(kamisCircuitBreaker.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("CLOSED에서는 기다리지 않고 시험 요청도 아님")
+    void CLOSED_바로_허가() throws InterruptedException {
+        // when
+        long startedAt = System.nanoTime();
+        boolean trial = kamisCircuitBreaker.awaitPermission();
+
+        // then
+        assertThat(trial).isFalse();
+        assertThat(elapsedMillis(startedAt)).isLessThan(OPEN_MILLIS);
+    }
+
+    @Test
+    @DisplayName("OPEN이면 대기 시간이 지난 뒤 시험 요청 하나를 허가하고, 성공하면 CLOSED")
+    void OPEN_대기후_시험요청_성공() throws InterruptedException {
+        // given
+        open();
+
+        // when
+        long startedAt = System.nanoTime();
+        boolean trial = kamisCircuitBreaker.awaitPermission();
+
+        // then
+        assertThat(trial).isTrue();
+        assertThat(elapsedMillis(startedAt)).isGreaterThanOrEqualTo(OPEN_MILLIS / 2);
+        assertThat(kamisCircuitBreaker.isClosed()).isFalse();
+
+        // when
+        kamisCircuitBreaker.onSuccess();
+
+        // then
+        assertThat(kamisCircuitBreaker.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 요청이 실패하면 대기 시간을 두 배로 늘려 다시 OPEN")
+    void 시험요청_실패시_대기시간_두배() throws InterruptedException {
+        // given
+        open();
+        kamisCircuitBreaker.awaitPermission();
+
+        // when
+        kamisCircuitBreaker.onFailure();
+        long startedAt = System.nanoTime();
+        boolean trial = kamisCircuitBreaker.awaitPermission();
+
+        // then
+        assertThat(trial).isTrue();
+        assertThat(elapsedMillis(startedAt)).isGreaterThanOrEqualTo(OPEN_MILLIS * 3 / 2);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN에서는 시험 요청 결과가 나올 때까지 다른 요청이 기다림")
+    void HALF_OPEN_다른요청_대기() throws Exception {
+        // given
+        open();
+        kamisCircuitBreaker.awaitPermission();
+
+        // when
+        CompletableFuture<Boolean> other = CompletableFuture.supplyAsync(this::awaitQuietly);
+
+        // then
+        Thread.sleep(OPEN_MILLIS * 3);
+        assertThat(other).isNotDone();
+
+        // when
+        kamisCircuitBreaker.onSuccess();
+
+        // then
+        assertThat(other.get(2, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 요청을 취소하면 대기 없이 다음 호출이 다시 시험 요청을 보냄")
+    void 시험요청_취소() throws Exception {
+        // given
+        open();
+        assertThat(kamisCircuitBreaker.awaitPermission()).isTrue();
+
+        // when
+        kamisCircuitBreaker.cancelTrial();
+        long startedAt = System.nanoTime();
+        boolean trial = kamisCircuitBreaker.awaitPermission();
+
+        // then
+        assertThat(trial).isTrue();
+        assertThat(elapsedMillis(startedAt)).isLessThan(OPEN_MILLIS);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN이 아니면 시험 요청 취소는 아무것도 바꾸지 않음")
+    void HALF_OPEN_아니면_취소_무시() {
+        // when
+        kamisCircuitBreaker.cancelTrial();
+
+        // then
+        assertThat(kamisCircuitBreaker.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("failure-threshold가 1보다 작으면 생성 실패")
+    void 잘못된_설정() {
+        assertThatThrownBy(() -> new KamisCircuitBreaker(0, OPEN_MILLIS, 1_000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            kamisCircuitBreaker.onFailure();
+        }
+        assertThat(kamisCircuitBreaker.isClosed()).isFalse();
+    }
+
+    private boolean awaitQuietly() {
+        try {
+            return kamisCircuitBreaker.awaitPermission();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,201 @@
+package com.yachaerang.batch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class KamisRequestThrottleTest {
+
+    private static final long SLOW_RESPONSE_MILLIS = 5_000;
+
+    @Test
+    @DisplayName("실패하면 동시 요청 수와 초당 요청 수를 절반으로 줄임")
+    void 실패시_절반으로_감속() throws InterruptedException {
+        // given
+        KamisRequestThrottle throttle = new KamisRequestThrottle(6, SLOW_RESPONSE_MILLIS, 1_000, 0.5);
+        throttle.acquire();
+
+        // when
+        throttle.release(false, 10);
+
+        // then
+        assertThat(throttle.getLimit()).isEqualTo(3);
+        assertThat(throttle.getRate()).isEqualTo(500.0);
+    }
+
+    @Test
+    @DisplayName("느린 응답은 성공이어도 실패와 같이 감속")
+    void 느린응답_감속() throws InterruptedException {
+        // given
+        KamisRequestThrottle throttle = new KamisRequestThrottle(6, SLOW_RESPONSE_MILLIS, 1_000, 0.5);
+        throttle.acquire();
+
+        // when
+        throttle.release(true, SLOW_RESPONSE_MILLIS + 1);
+
+        // then
+        assertThat(throttle.getLimit()).isEqualTo(3);
+        assertThat(throttle.getRate()).isEqualTo(500.0);
+    }
+
+    @Test
+    @DisplayName("계속 실패해도 동시 요청 수는 1, 초당 요청 수는 min-rate 아래로 내려가지 않음")
+    void 감속_하한() throws InterruptedException {
+        // given
+        KamisRequestThrottle throttle = new KamisRequestThrottle(6, SLOW_RESPONSE_MILLIS, 8, 0.5);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            throttle.release(false, 10);
+        }
+
+        // then
+        assertThat(throttle.getLimit()).isEqualTo(1);
+        assertThat(throttle.getRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("정상 응답마다 초당 요청 수를 조금씩 늘리되 max-rate를 넘지 않음")
+    void 정상응답_초당요청수_증가() {
+        // given
+        KamisRequestThrottle throttle = new KamisRequestThrottle(1, SLOW_RESPONSE_MILLIS, 2, 0.5);
+        throttle.release(false, 10);
+
+        // when
+        throttle.release(true, 10);
+
+        // then
+        assertThat(throttle.getRate()).isCloseTo(1.1, within(1e-9));
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            throttle.release(true, 10);
+        }
+
+        // then
+        assertThat(throttle.getRate()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("현재 허용 수만큼 연속으로 정상 응답하면 동시 요청 수를 하나 늘림")
+    void 연속성공_동시요청수_증가() {
+        // given
+        KamisRequestThrottle throttle = new KamisRequestThrottle(4, SLOW_RESPONSE_MILLIS, 1_000, 0.5);
+        throttle.release(false, 10);
+        throttle.release(false, 10);
+        assertThat(throttle.getLimit()).isEqualTo(1);
+
+        // when & then
+        throttle.release(true, 10);
+        assertThat(throttle.getLimit()).isEqualTo(2);
+
+        throttle.release(true, 10);
+        assertThat(throttle.getLimit()).isEqualTo(2);
+        throttle.release(true, 10);
+        assertThat(throttle.getLimit()).isEqualTo(3);
+
+        for (int i = 0; i < 10; i++) {
+            throttle.release(true, 10);
+        }
+        assertThat(throttle.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Token이 없으면 초당 요청 수에 맞춰 다음 Token까지 대기")
+    void Token_부족시_대기() throws InterruptedException {
+        // given
+        KamisRequestThrottle throttle = new KamisRequestThrottle(6, SLOW_RESPONSE_MILLIS, 4, 0.5);
+
+        // when
+        long startedAt = System.nanoTime();
+        throttle.acquire();
+        long firstMillis = elapsedMillis(startedAt);
+        throttle.acquire();
+        long secondMillis = elapsedMillis(startedAt);
+
+        // then : 시작 Token 1개는 바로, 다음 Token은 1/4초 뒤
+        assertThat(firstMillis).isLessThan(100);
+        assertThat(secondMillis).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("동시 요청 수가 가득 차면 release될 때까지 대기")
+    void 동시요청수_초과시_대기() throws Exception {
+        // given
+        KamisRequestThrottle throttle = new KamisRequestThrottle(1, SLOW_RESPONSE_MILLIS, 1_000, 0.5);
+        throttle.acquire();
+
+        // when
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> acquireQuietly(throttle));
+
+        // then
+        Thread.sleep(200);
+        assertThat(second).isNotDone();
+
+        // when
+        throttle.release(true, 10);
+
+        // then
+        second.get(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("대기 중 중단되면 InterruptedException")
+    void 대기중_중단() throws Exception {
+        // given
+        KamisRequestThrottle throttle = new KamisRequestThrottle(1, SLOW_RESPONSE_MILLIS, 1_000, 0.5);
+        throttle.acquire();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                throttle.acquire();
+            } catch (Throwable e) {
+                error.set(e);
+            } finally {
+                finished.countDown();
+            }
+        });
+
+        // when
+        waiter.start();
+        Thread.sleep(100);
+        waiter.interrupt();
+
+        // then
+        assertThat(finished.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(error.get()).isInstanceOf(InterruptedException.class);
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 생성 실패")
+    void 잘못된_설정() {
+        assertThatThrownBy(() -> new KamisRequestThrottle(0, SLOW_RESPONSE_MILLIS, 10, 0.5))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KamisRequestThrottle(1, SLOW_RESPONSE_MILLIS, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KamisRequestThrottle(1, SLOW_RESPONSE_MILLIS, 1, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void acquireQuietly(KamisRequestThrottle throttle) {
+        try {
+            throttle.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long elapsedMillis(long startedAt) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,157 @@
+package com.yachaerang.batch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KamisResponseCacheTest {
+
+    private static final String BODY = "{\"data\": {\"error_code\": \"000\", \"item\": []}}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("같은 요청 조건은 같은 키, 조건이 다르면 다른 키")
+    void 요청조건별_키() {
+        // given
+        KamisResponseCache cache = cache(true, false);
+        LocalDate date = LocalDate.of(2025, 11, 3);
+
+        // when
+        String key = cache.key("dailyPriceByCategoryList", "02", "100", date);
+
+        // then
+        assertThat(key).isEqualTo(cache.key("dailyPriceByCategoryList", "02", "100", date));
+        assertThat(key).isNotEqualTo(cache.key("dailyPriceByCategoryList", "02", "200", date));
+        assertThat(key).isNotEqualTo(cache.key("dailyPriceByCategoryList", "02", "100", date.plusDays(1)));
+        assertThat(key).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("commit한 응답은 그대로 다시 읽힘")
+    void commit한_응답_조회() throws IOException {
+        // given
+        KamisResponseCache cache = cache(true, false);
+        String key = cache.key("dailyPriceByCategoryList", "02", "100", LocalDate.of(2025, 11, 3));
+
+        // when
+        KamisResponseCache.Recording recording = cache.record(key, stream(BODY));
+        recording.readNBytes(10);
+        recording.commit();
+
+        // then
+        try (InputStream cached = cache.open(key)) {
+            assertThat(cached).isNotNull();
+            assertThat(new String(cached.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    @DisplayName("commit하지 않은 응답은 보관하지 않고 임시 파일도 남기지 않음")
+    void commit없이_discard() throws IOException {
+        // given
+        KamisResponseCache cache = cache(true, false);
+        String key = cache.key("dailyPriceByCategoryList", "02", "100", LocalDate.of(2025, 11, 3));
+
+        // when
+        KamisResponseCache.Recording recording = cache.record(key, stream(BODY));
+        recording.readAllBytes();
+        recording.discard();
+
+        // then
+        assertThat(cache.open(key)).isNull();
+        assertThat(files()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("gzip이 아닌 캐시 파일은 지우고 null 반환")
+    void 깨진_캐시파일_삭제() throws IOException {
+        // given
+        KamisResponseCache cache = cache(true, false);
+        String key = cache.key("dailyPriceByCategoryList", "02", "100", LocalDate.of(2025, 11, 3));
+        Path file = directory.resolve(key.substring(0, 2)).resolve(key + ".json.gz");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, BODY);
+
+        // when
+        InputStream cached = cache.open(key);
+
+        // then
+        assertThat(cached).isNull();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("캐시를 사용하지 않으면 조회, 보관 모두 하지 않음")
+    void 캐시_미사용() {
+        // given
+        KamisResponseCache cache = cache(false, false);
+        String key = cache.key("dailyPriceByCategoryList", "02", "100", LocalDate.of(2025, 11, 3));
+
+        // when & then
+        assertThat(cache.open(key)).isNull();
+        assertThat(cache.isCacheable(LocalDate.now().minusDays(30))).isFalse();
+        assertThat(cache.isNoDataCacheable(LocalDate.now().minusDays(30))).isFalse();
+    }
+
+    @Test
+    @DisplayName("offline이면 enabled가 아니어도 캐시 사용")
+    void offline이면_캐시사용() {
+        // given
+        KamisResponseCache cache = cache(false, true);
+
+        // when & then
+        assertThat(cache.isOffline()).isTrue();
+        assertThat(cache.isCacheable(LocalDate.now().minusDays(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("정상 응답은 오늘 이전 날짜만 보관")
+    void 정상응답_보관기준() {
+        // given
+        KamisResponseCache cache = cache(true, false);
+
+        // when & then
+        assertThat(cache.isCacheable(LocalDate.now())).isFalse();
+        assertThat(cache.isCacheable(LocalDate.now().minusDays(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("데이터 없음 응답은 settle 일수가 지난 날짜만 보관")
+    void 데이터없음_보관기준() {
+        // given
+        KamisResponseCache cache = cache(true, false);
+
+        // when & then
+        assertThat(cache.isNoDataCacheable(LocalDate.now().minusDays(1))).isFalse();
+        assertThat(cache.isNoDataCacheable(LocalDate.now().minusDays(7))).isFalse();
+        assertThat(cache.isNoDataCacheable(LocalDate.now().minusDays(8))).isTrue();
+    }
+
+    private KamisResponseCache cache(boolean enabled, boolean offline) {
+        return new KamisResponseCache(enabled, offline, directory.toString(), 7);
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+package com.yachaerang.batch.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yachaerang.batch.domain.dto.KamisPriceItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KamisResponseParserTest {
+
+    private final KamisResponseParser kamisResponseParser = new KamisResponseParser(new ObjectMapper());
+
+    @Test
+    @DisplayName("data 객체의 item 배열을 순서대로 KamisPriceItem으로 변환")
+    void 정상응답_item_변환() throws IOException {
+        // given
+        List<KamisPriceItem> items = new ArrayList<>();
+
+        // when
+        KamisResponseParser.Result result = kamisResponseParser.parse(recorded("daily-price-000.json"), items::add);
+
+        // then
+        assertThat(result.isDataPresent()).isTrue();
+        assertThat(result.getErrorCode()).isEqualTo("000");
+        assertThat(result.getItemCount()).isEqualTo(2);
+        assertThat(items).extracting(KamisPriceItem::getItemCode).containsExactly("111", "112");
+        assertThat(items.get(0).getItemName()).isEqualTo("쌀");
+        assertThat(items.get(0).getRankCode()).isEqualTo("04");
+        assertThat(items.get(0).getDpr1()).isEqualTo("58,400");
+        assertThat(items.get(1).getDpr1()).isEqualTo("-");
+    }
+
+    @Test
+    @DisplayName("데이터가 없으면 data 배열의 첫 값을 error_code로 사용")
+    void 데이터없음_001_배열() throws IOException {
+        // given
+        List<KamisPriceItem> items = new ArrayList<>();
+
+        // when
+        KamisResponseParser.Result result = kamisResponseParser.parse(recorded("daily-price-001.json"), items::add);
+
+        // then
+        assertThat(result.isDataPresent()).isTrue();
+        assertThat(result.getErrorCode()).isEqualTo("001");
+        assertThat(result.getItemCount()).isZero();
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    @DisplayName("에러 코드 응답은 item 없이 error_code만 반환")
+    void 에러코드_응답() throws IOException {
+        // when
+        KamisResponseParser.Result result = kamisResponseParser.parse(recorded("daily-price-error.json"), item -> {});
+
+        // then
+        assertThat(result.isDataPresent()).isTrue();
+        assertThat(result.getErrorCode()).isEqualTo("200");
+        assertThat(result.getItemCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("모르는 필드와 중첩된 값은 건너뛰고 data만 읽음")
+    void 모르는_필드_건너뜀() throws IOException {
+        // given
+        String body = """
+                {
+                  "meta": {"nested": [1, {"data": ["999"]}], "data": "ignored"},
+                  "data": {
+                    "extra": {"item": [{"item_code": "999"}]},
+                    "error_code": "000",
+                    "item": [{"item_code": "211", "unknown_field": {"a": [1, 2]}, "dpr1": "1,200"}]
+                  },
+                  "trailer": [true, null]
+                }
+                """;
+        List<KamisPriceItem> items = new ArrayList<>();
+
+        // when
+        KamisResponseParser.Result result = kamisResponseParser.parse(stream(body), items::add);
+
+        // then
+        assertThat(result.getErrorCode()).isEqualTo("000");
+        assertThat(result.getItemCount()).isEqualTo(1);
+        assertThat(items.get(0).getItemCode()).isEqualTo("211");
+        assertThat(items.get(0).getDpr1()).isEqualTo("1,200");
+    }
+
+    @Test
+    @DisplayName("data가 없으면 dataPresent가 false")
+    void data없는_응답() throws IOException {
+        // when
+        KamisResponseParser.Result result = kamisResponseParser.parse(stream("{\"condition\": []}"), item -> {});
+
+        // then
+        assertThat(result.isDataPresent()).isFalse();
+        assertThat(result.getErrorCode()).isNull();
+    }
+
+    @Test
+    @DisplayName("최상위가 JSON 객체가 아니면 IOException")
+    void 객체가_아닌_최상위() {
+        assertThatThrownBy(() -> kamisResponseParser.parse(stream("[\"001\"]"), item -> {}))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("JSON 객체가 아닙니다");
+    }
+
+    @Test
+    @DisplayName("중간에 끊긴 응답은 IOException")
+    void 끊긴_응답() {
+        String body = "{\"data\": {\"error_code\": \"000\", \"item\": [{\"item_code\": \"111\"";
+
+        assertThatThrownBy(() -> kamisResponseParser.parse(stream(body), item -> {}))
+                .isInstanceOf(IOException.class);
+    }
+
+    private InputStream recorded(String name) {
+        InputStream body = getClass().getResourceAsStream("/kamis/" + name);
+        assertThat(body).as(name).isNotNull();
+        return body;
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,144 @@
+-- Daily Price Job 테스트용 Data DB 테이블 (H2, MODE=MySQL)
+-- backend의 Flyway 마이그레이션(V1.0.0 ~ V1.0.5) 중 batch가 쓰는 테이블만
+
+-- 5. product 테이블
+CREATE TABLE IF NOT EXISTS product (
+    product_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    `name` VARCHAR(200) NOT NULL,
+    product_code VARCHAR(100) NOT NULL,
+
+    item_name VARCHAR(50),
+    item_code VARCHAR(50),
+    kind_name VARCHAR(50),
+    kind_code VARCHAR(50),
+    product_rank VARCHAR(50),
+    rank_code VARCHAR(50),
+    unit VARCHAR(50),
+    origin VARCHAR(100),
+    image_url VARCHAR(500),
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uq_product_code UNIQUE (product_code)
+    );
+
+CREATE INDEX IF NOT EXISTS idx_product_code ON product(product_code);
+
+-- 9. daily_price table
+CREATE TABLE IF NOT EXISTS daily_price (
+    daily_price_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    price_date DATE NOT NULL,
+    price DECIMAL(15, 2) NOT NULL,
+    product_code VARCHAR(100) NOT NULL,
+    price_change BIGINT NULL,
+    price_change_rate DECIMAL(6, 2) NULL,
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_daily_product_product
+    FOREIGN KEY (product_code)
+    REFERENCES product(product_code)
+    ON DELETE CASCADE,
+
+    CONSTRAINT uk_daily_product_product_date UNIQUE (product_code, price_date)
+    );
+
+CREATE INDEX IF NOT EXISTS idx_daily_product_product_code ON daily_price(product_code);
+CREATE INDEX IF NOT EXISTS idx_daily_product_price_date ON daily_price(price_date);
+
+-- 10. weekly_price table
+CREATE TABLE IF NOT EXISTS weekly_price (
+    weekly_price_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_code VARCHAR(100) NOT NULL,
+    price_year INT NOT NULL,
+    week_number INT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    avg_price DECIMAL(15, 2),
+    max_price DECIMAL(15, 0),
+    min_price DECIMAL(15, 0),
+    price_count INT DEFAULT 0,
+    price_change BIGINT NULL,
+    price_change_rate DECIMAL(6, 2) NULL,
+    price_sum DECIMAL(20, 0) NULL,
+    first_price_date DATE NULL,
+    start_price DECIMAL(15, 0) NULL,
+    last_price_date DATE NULL,
+    end_price DECIMAL(15, 0) NULL,
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_weekly_product_product
+    FOREIGN KEY (product_code)
+    REFERENCES product(product_code)
+    ON DELETE CASCADE,
+
+    CONSTRAINT uk_weekly_product_product_week UNIQUE (product_code, start_date)
+    );
+
+CREATE INDEX IF NOT EXISTS idx_weekly_product_product_code ON weekly_price(product_code);
+CREATE INDEX IF NOT EXISTS idx_weekly_product_week_start ON weekly_price(start_date);
+
+-- 11. monthly_price table
+CREATE TABLE IF NOT EXISTS monthly_price (
+    monthly_product_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_code VARCHAR(100) NOT NULL,
+    price_year INT,
+    price_month INT,
+    avg_price DECIMAL(15, 2),
+    min_price DECIMAL(15, 0),
+    max_price DECIMAL(15, 0),
+    price_count INT DEFAULT 0,
+    price_change BIGINT NULL,
+    price_change_rate DECIMAL(6, 2) NULL,
+    price_sum DECIMAL(20, 0) NULL,
+    first_price_date DATE NULL,
+    start_price DECIMAL(15, 0) NULL,
+    last_price_date DATE NULL,
+    end_price DECIMAL(15, 0) NULL,
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_monthly_product_product
+    FOREIGN KEY (product_code)
+    REFERENCES product(product_code)
+    ON DELETE CASCADE,
+
+    CONSTRAINT uk_monthly_product_product_month UNIQUE (product_code, price_year, price_month)
+    );
+
+CREATE INDEX IF NOT EXISTS idx_monthly_product_month ON monthly_price(price_year, price_month);
+
+-- 12. yearly_price table
+CREATE TABLE IF NOT EXISTS yearly_price (
+    yearly_product_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    product_code VARCHAR(100) NOT NULL,
+    price_year INT,
+    avg_price DECIMAL(15, 2),
+    min_price DECIMAL(15, 0),
+    max_price DECIMAL(15, 0),
+    start_price DECIMAL(15, 0),
+    end_price DECIMAL(15, 0),
+    price_count INT DEFAULT 0,
+    price_change BIGINT NULL,
+    price_change_rate DECIMAL(6, 2) NULL,
+    price_sum DECIMAL(20, 0) NULL,
+    first_price_date DATE NULL,
+    last_price_date DATE NULL,
+
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_yearly_price_product
+    FOREIGN KEY (product_code)
+    REFERENCES product(product_code)
+    ON DELETE CASCADE,
+
+    CONSTRAINT uk_yearly_price UNIQUE (product_code, price_year)
+    );
+
+CREATE INDEX IF NOT EXISTS idx_year ON yearly_price(price_year);